@@ -0,0 +1,32 @@
+package com.booklog.booklog_backend.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@EnableScheduling
+@Slf4j
+public class AsyncConfig {
+    
+    // 표지 파생 이미지 생성용. 큐가 가득 차면 작업을 버리고 원본을 그대로 제공한다.
+    // 디코딩/리사이즈는 CPU 작업이고 동시에 올리는 이미지 수를 제한해야 하므로 가상 스레드 모드에서도 고정 풀을 쓴다.
+    @Bean(name = "imageProcessingExecutor")
+    public ThreadPoolTaskExecutor imageProcessingExecutor(
+            @Value("${file.derivatives.threads}") int threads,
+            @Value("${file.derivatives.queue-capacity}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-");
+        executor.setRejectedExecutionHandler((task, pool) ->
+            log.warn("이미지 처리 대기열이 가득 차 파생 이미지 생성을 건너뜁니다."));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
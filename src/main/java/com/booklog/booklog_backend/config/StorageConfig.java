@@ -0,0 +1,67 @@
+package com.booklog.booklog_backend.config;
+
+import com.booklog.booklog_backend.storage.BlobStorage;
+import com.booklog.booklog_backend.storage.LocalBlobStorage;
+import com.booklog.booklog_backend.storage.S3BlobStorage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.checksums.RequestChecksumCalculation;
+import software.amazon.awssdk.core.checksums.ResponseChecksumValidation;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+
+import java.net.URI;
+import java.nio.file.Paths;
+
+/**
+ * 표지 저장소 선택. {@code file.storage.type} 이 local(기본값)이면 {@code file.upload-dir},
+ * s3 이면 S3 호환 버킷을 사용한다.
+ */
+@Configuration
+public class StorageConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "file.storage.type", havingValue = "local", matchIfMissing = true)
+    public LocalBlobStorage localBlobStorage(@Value("${file.upload-dir}") String uploadDir) {
+        return new LocalBlobStorage(Paths.get(uploadDir));
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "file.storage.type", havingValue = "s3")
+    public S3Client s3Client(@Value("${file.storage.s3.endpoint:}") String endpoint,
+                             @Value("${file.storage.s3.region}") String region,
+                             @Value("${file.storage.s3.access-key:}") String accessKey,
+                             @Value("${file.storage.s3.secret-key:}") String secretKey,
+                             @Value("${file.storage.s3.path-style:false}") boolean pathStyle) {
+        S3ClientBuilder builder = S3Client.builder()
+            .region(Region.of(region))
+            .forcePathStyle(pathStyle)
+            // S3 호환 스토리지 중 새 기본 체크섬 헤더를 지원하지 않는 곳이 있어 필요할 때만 보낸다
+            .requestChecksumCalculation(RequestChecksumCalculation.WHEN_REQUIRED)
+            .responseChecksumValidation(ResponseChecksumValidation.WHEN_REQUIRED);
+        if (StringUtils.hasText(endpoint)) {
+            builder.endpointOverride(URI.create(endpoint));
+        }
+        if (StringUtils.hasText(accessKey)) {
+            builder.credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey)));
+        } else {
+            builder.credentialsProvider(DefaultCredentialsProvider.builder().build());
+        }
+        return builder.build();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "file.storage.type", havingValue = "s3")
+    public BlobStorage s3BlobStorage(S3Client s3Client,
+                                     @Value("${file.storage.s3.bucket}") String bucket,
+                                     @Value("${file.storage.s3.prefix:covers/}") String prefix) {
+        return new S3BlobStorage(s3Client, bucket, prefix);
+    }
+}
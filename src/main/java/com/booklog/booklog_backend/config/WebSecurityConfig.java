@@ -4,6 +4,7 @@ import com.booklog.booklog_backend.security.AuthTokenFilter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
@@ -57,10 +58,15 @@ public class WebSecurityConfig {
                 // 🔓 API 엔드포인트들
                 .requestMatchers("/api/auth/**").permitAll()     // 인증 API
                 .requestMatchers("/api/images/**").permitAll()   // 이미지 API
+                .requestMatchers(HttpMethod.GET, "/api/books/feed").permitAll()   // 공개 피드
                 
                 // 🔒 나머지 API는 인증 필요
                 .requestMatchers("/api/**").authenticated()
                 
+                // 🔒 운영 지표 (health 제외)
+                .requestMatchers("/actuator/health").permitAll()
+                .requestMatchers("/actuator/**").authenticated()
+                
                 // 🔓 그 외 모든 요청 허용 (React Router 등을 위해)
                 .anyRequest().permitAll()
             );
@@ -1,23 +1,42 @@
 package com.booklog.booklog_backend.controller;
 
 import com.booklog.booklog_backend.dto.BookDto;
+import com.booklog.booklog_backend.dto.BookImportResultDto;
+import com.booklog.booklog_backend.dto.BookLookupDto;
 import com.booklog.booklog_backend.dto.BookResponseDto;
+import com.booklog.booklog_backend.dto.BookSummaryDto;
+import com.booklog.booklog_backend.dto.CursorSliceDto;
+import com.booklog.booklog_backend.dto.ReadingStatsDto;
+import com.booklog.booklog_backend.dto.SuggestionDto;
 import com.booklog.booklog_backend.security.UserDetailsImpl;
+import com.booklog.booklog_backend.service.BookExportService;
+import com.booklog.booklog_backend.service.BookImportService;
 import com.booklog.booklog_backend.service.BookService;
+import com.booklog.booklog_backend.transfer.ExportFormat;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/books")
 @RequiredArgsConstructor
 @CrossOrigin(origins = "*", maxAge = 3600)
 public class BookController {
     private final BookService bookService;
+    private final BookImportService bookImportService;
+    private final BookExportService bookExportService;
     
     @PostMapping
     public ResponseEntity<BookResponseDto> createBook(
@@ -42,6 +61,18 @@ public class BookController {
         return ResponseEntity.ok(response);
     }
     
+    // CSV(text/csv, 첫 행은 헤더) 또는 NDJSON(application/x-ndjson) 본문을 스트림으로 읽어 한꺼번에 등록한다
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<BookImportResultDto> importBooks(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body,
+            Authentication authentication) {
+        
+        Long userId = getCurrentUserId(authentication);
+        BookImportResultDto response = bookImportService.importBooks(userId, contentType, body);
+        return ResponseEntity.ok(response);
+    }
+    
     @DeleteMapping("/{id}")
     public ResponseEntity<?> deleteBook(@PathVariable Long id, Authentication authentication) {
         Long userId = getCurrentUserId(authentication);
@@ -56,8 +87,19 @@ public class BookController {
         return ResponseEntity.ok(response);
     }
     
+    // 여러 책 한 번에 조회 (ids=1,2,3). 항목마다 OK / NOT_FOUND / FORBIDDEN 을 표시한다
+    @GetMapping("/lookup")
+    public ResponseEntity<List<BookLookupDto>> getBooks(
+            @RequestParam List<Long> ids,
+            Authentication authentication) {
+        
+        Long userId = getCurrentUserId(authentication);
+        List<BookLookupDto> response = bookService.getBooks(ids, userId);
+        return ResponseEntity.ok(response);
+    }
+    
     @GetMapping
-    public ResponseEntity<Page<BookResponseDto>> getUserBooks(
+    public ResponseEntity<Page<BookSummaryDto>> getUserBooks(
             @RequestParam(defaultValue = "") String search,
             @RequestParam(defaultValue = "date") String sortBy,
             @RequestParam(defaultValue = "0") int page,
@@ -65,7 +107,67 @@ public class BookController {
             Authentication authentication) {
         
         Long userId = getCurrentUserId(authentication);
-        Page<BookResponseDto> response = bookService.getUserBooks(userId, search, sortBy, page, size);
+        Page<BookSummaryDto> response = bookService.getUserBooks(userId, search, sortBy, page, size);
+        return ResponseEntity.ok(response);
+    }
+    
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorSliceDto<BookSummaryDto>> scrollUserBooks(
+            @RequestParam(defaultValue = "date") String sortBy,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            Authentication authentication) {
+        
+        Long userId = getCurrentUserId(authentication);
+        CursorSliceDto<BookSummaryDto> response = bookService.scrollUserBooks(userId, sortBy, cursor, size);
+        return ResponseEntity.ok(response);
+    }
+    
+    // 내 책 전체를 파일로 내려받는다 (format=ndjson|csv). 쿼리 결과를 읽는 대로 응답에 바로 쓴다.
+    @GetMapping("/export")
+    public void exportBooks(
+            @RequestParam(defaultValue = "ndjson") String format,
+            Authentication authentication,
+            HttpServletResponse response) throws IOException {
+        
+        Long userId = getCurrentUserId(authentication);
+        ExportFormat exportFormat = ExportFormat.of(format);
+        response.setContentType(exportFormat.contentType() + ";charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+            .filename("booklog-books." + exportFormat.extension())
+            .build()
+            .toString());
+        bookExportService.export(userId, exportFormat, response.getOutputStream());
+    }
+    
+    // 내 독서 통계 (월/연도별 읽은 책, 많이 읽은 저자/출판사, 전체/공개 권수)
+    @GetMapping("/stats")
+    public ResponseEntity<ReadingStatsDto> getReadingStats(Authentication authentication) {
+        Long userId = getCurrentUserId(authentication);
+        ReadingStatsDto response = bookService.getReadingStats(userId);
+        return ResponseEntity.ok(response);
+    }
+    
+    // 검색창 자동 완성 - scope=mine(내 책) 또는 public(모든 사용자의 공개 책)
+    @GetMapping("/suggest")
+    public ResponseEntity<List<SuggestionDto>> suggestBooks(
+            @RequestParam(defaultValue = "") String q,
+            @RequestParam(defaultValue = "mine") String scope,
+            @RequestParam(defaultValue = "10") int size,
+            Authentication authentication) {
+        
+        Long userId = getCurrentUserId(authentication);
+        List<SuggestionDto> response = bookService.suggestBooks(userId, q, scope, size);
+        return ResponseEntity.ok(response);
+    }
+    
+    // 모든 사용자의 공개 책 (로그인 없이 조회 가능)
+    @GetMapping("/feed")
+    public ResponseEntity<CursorSliceDto<BookSummaryDto>> getPublicFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        
+        CursorSliceDto<BookSummaryDto> response = bookService.getPublicFeed(cursor, size);
         return ResponseEntity.ok(response);
     }
     
@@ -1,60 +1,119 @@
 package com.booklog.booklog_backend.controller;
 
+import com.booklog.booklog_backend.service.CoverImage;
+import com.booklog.booklog_backend.service.CoverSize;
+import com.booklog.booklog_backend.service.CoverStore;
+import com.booklog.booklog_backend.service.HotCoverCache;
+import com.booklog.booklog_backend.storage.BlobStorage;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.HttpRange;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/images")
 @Slf4j
 @CrossOrigin(origins = "*")
+@RequiredArgsConstructor
 public class FileController {
     
-    private final String uploadDir = "uploads/covers/";
+    private final CoverStore coverStore;
+    private final BlobStorage storage;
+    private final HotCoverCache hotCoverCache;
     
     @GetMapping("/{filename:.+}")
-    public ResponseEntity<Resource> getImage(@PathVariable String filename) {
-        try {
-            Path filePath = Paths.get(uploadDir).resolve(filename).normalize();
-            Resource resource = new UrlResource(filePath.toUri());
-            
-            if (resource.exists()) {
-                String contentType = determineContentType(filename);
-                
-                return ResponseEntity.ok()
-                    .contentType(MediaType.parseMediaType(contentType))
-                    .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + resource.getFilename() + "\"")
-                    .body(resource);
-            } else {
-                return ResponseEntity.notFound().build();
+    public void getImage(@PathVariable String filename,
+                         @RequestParam(required = false) String size,
+                         HttpServletRequest request,
+                         HttpServletResponse response) throws IOException {
+        // 요청한 크기의 파생본이 준비되어 있으면 사용하고, 아니면 원본으로 대체
+        Optional<CoverImage> found = coverStore.findImage(filename, CoverSize.fromParam(size));
+        if (found.isEmpty()) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        CoverImage image = found.get();
+        String name = image.name();
+        long fileLength = image.info().size();
+        String etag = image.etag();
+        
+        response.setHeader(HttpHeaders.CACHE_CONTROL, image.cacheControl());
+        // If-None-Match 를 처리하고 ETag 헤더를 설정한다
+        if (new ServletWebRequest(request, response).checkNotModified(etag)) {
+            return;
+        }
+        
+        response.setContentType(image.contentType());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+            ContentDisposition.inline().filename(filename, StandardCharsets.UTF_8).build().toString());
+        
+        long start = 0;
+        long length = fileLength;
+        HttpRange range = singleRange(request, etag);
+        if (range != null) {
+            if (fileLength == 0 || range.getRangeStart(fileLength) >= fileLength) {
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + fileLength);
+                return;
             }
-        } catch (Exception e) {
-            log.error("이미지 로드 중 오류 발생: ", e);
-            return ResponseEntity.notFound().build();
+            start = range.getRangeStart(fileLength);
+            long end = range.getRangeEnd(fileLength);
+            length = end - start + 1;
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + fileLength);
+        }
+        
+        if ("HEAD".equals(request.getMethod())) {
+            response.setContentLengthLong(length);
+            return;
+        }
+        
+        // 자주 요청되는 작은 표지는 메모리에서, 나머지는 로컬 파일이나 저장소 스트림으로 전송한다
+        ByteBuffer cached = hotCoverCache.get(name, image.info());
+        if (cached != null) {
+            ImageFileWriter.write(cached, start, length, response);
+            return;
+        }
+        Optional<Path> localFile = storage.localPath(name);
+        if (localFile.isPresent()) {
+            ImageFileWriter.write(localFile.get(), start, length, request, response);
+            return;
+        }
+        try (InputStream content = storage.open(name, start, length)) {
+            ImageFileWriter.write(content, length, response);
         }
     }
     
-    private String determineContentType(String filename) {
-        String extension = filename.substring(filename.lastIndexOf(".") + 1).toLowerCase();
-        switch (extension) {
-            case "jpg":
-            case "jpeg":
-                return "image/jpeg";
-            case "png":
-                return "image/png";
-            case "gif":
-                return "image/gif";
-            case "webp":
-                return "image/webp";
-            default:
-                return "application/octet-stream";
+    // 단일 구간 요청만 206 으로 처리한다. 여러 구간이거나 If-Range 가 맞지 않으면 전체를 보낸다.
+    private HttpRange singleRange(HttpServletRequest request, String etag) {
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader == null) {
+            return null;
+        }
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.equals(etag)) {
+            return null;
+        }
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            log.debug("잘못된 Range 헤더 무시: {}", rangeHeader);
+            return null;
         }
     }
-}
\ No newline at end of file
+}
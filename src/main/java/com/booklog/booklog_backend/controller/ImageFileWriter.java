@@ -0,0 +1,81 @@
+package com.booklog.booklog_backend.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 파일, 캐시된 버퍼 또는 원격 저장소 스트림의 구간을 응답으로 전송한다.
+ * 서블릿 컨테이너가 sendfile 을 지원하면 커널에서 바로 소켓으로 복사하도록 위임하고,
+ * 아니면 FileChannel.transferTo 로 힙 버퍼 없이 전송한다.
+ */
+public final class ImageFileWriter {
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    // Tomcat 기본값(48KB)과 같게, 작은 파일은 sendfile 설정 비용이 더 크다
+    private static final long SENDFILE_THRESHOLD = 48 * 1024;
+
+    private ImageFileWriter() {
+    }
+
+    public static void write(Path file, long start, long length,
+                             HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentLengthLong(length);
+        if (length >= SENDFILE_THRESHOLD && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + length);
+            return;
+        }
+        transfer(file, start, length, Channels.newChannel(response.getOutputStream()));
+    }
+
+    /**
+     * 메모리(캐시)에 있는 내용을 전송한다. 전달된 버퍼의 position/limit 은 바뀌지 않는다.
+     */
+    public static void write(ByteBuffer content, long start, long length,
+                             HttpServletResponse response) throws IOException {
+        response.setContentLengthLong(length);
+        ByteBuffer slice = content.duplicate();
+        slice.position((int) start).limit((int) (start + length));
+        WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+        while (slice.hasRemaining()) {
+            target.write(slice);
+        }
+    }
+
+    /**
+     * 이미 구간만큼 잘린 스트림을 작은 버퍼로 흘려 보낸다. 스트림은 호출자가 닫는다.
+     */
+    public static void write(InputStream content, long length, HttpServletResponse response) throws IOException {
+        response.setContentLengthLong(length);
+        content.transferTo(response.getOutputStream());
+    }
+
+    public static void transfer(Path file, long start, long length, WritableByteChannel target) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long position = start;
+            long remaining = length;
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, target);
+                if (transferred <= 0) {
+                    // 파일이 도중에 잘린 경우
+                    break;
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+    }
+}
@@ -21,4 +21,7 @@ public class BookDto {
     private String beforeThoughts;
     private String afterThoughts;
     private Boolean isPublic = true;
+    
+    // 수정 시 처음 읽었던 버전. 없으면 버전 확인 없이 덮어쓴다
+    private Long version;
 }
\ No newline at end of file
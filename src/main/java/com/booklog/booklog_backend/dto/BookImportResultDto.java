@@ -0,0 +1,23 @@
+package com.booklog.booklog_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class BookImportResultDto {
+    private int imported;
+    private int failed;
+    // 앞쪽 일부 행의 오류만 담는다 (failed 는 전체 개수)
+    private List<RowError> errors = new ArrayList<>();
+    private boolean errorsTruncated;
+
+    @Data
+    @AllArgsConstructor
+    public static class RowError {
+        private long row;
+        private String message;
+    }
+}
@@ -0,0 +1,19 @@
+package com.booklog.booklog_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * 여러 책 조회 결과의 한 항목. 요청한 ID 순서대로 반환되며 status 가 OK 일 때만 book 이 있다.
+ */
+@Data
+@AllArgsConstructor
+public class BookLookupDto {
+    private Long id;
+    private Status status;
+    private BookResponseDto book;
+
+    public enum Status {
+        OK, NOT_FOUND, FORBIDDEN
+    }
+}
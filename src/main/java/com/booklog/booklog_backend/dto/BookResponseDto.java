@@ -19,4 +19,5 @@ public class BookResponseDto {
     private Boolean isPublic;
     private LocalDateTime createdAt;
     private String userNickname;
+    private Long version;
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.booklog.booklog_backend.dto;
+
+import lombok.Data;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+public class BookSummaryDto {
+    private Long id;
+    private String title;
+    private String author;
+    private LocalDate readDate;
+    private String coverImageUrl;
+    private Boolean isPublic;
+    private LocalDateTime createdAt;
+    private String userNickname;
+}
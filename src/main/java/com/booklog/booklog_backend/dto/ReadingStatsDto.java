@@ -0,0 +1,38 @@
+package com.booklog.booklog_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class ReadingStatsDto {
+    private int totalBooks;
+    private int publicBooks;
+    // 읽은 날짜가 있는 책만 집계한다 (오래된 기간부터)
+    private List<PeriodCount> years;
+    private List<PeriodCount> months;
+    // 많이 읽은 순, 같으면 이름순으로 상위 일부만 담는다
+    private List<NameCount> topAuthors;
+    private List<NameCount> topPublishers;
+
+    public static ReadingStatsDto empty() {
+        return new ReadingStatsDto(0, 0, List.of(), List.of(), List.of(), List.of());
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class PeriodCount {
+        // "2024" 또는 "2024-03"
+        private String period;
+        private int count;
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class NameCount {
+        private String name;
+        private int count;
+    }
+}
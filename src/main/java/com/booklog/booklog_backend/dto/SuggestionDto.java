@@ -0,0 +1,14 @@
+package com.booklog.booklog_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class SuggestionDto {
+    // title, author, publisher 중 하나
+    private String field;
+    private String text;
+    // 이 값을 가진 책 수 - 많은 순으로 정렬된다
+    private int count;
+}
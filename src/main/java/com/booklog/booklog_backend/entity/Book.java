@@ -4,6 +4,8 @@ import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -11,13 +13,27 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "books")
+@Table(name = "books", indexes = {
+    // 키셋 페이지네이션용 복합 인덱스 (정렬 키 + ID)
+    @Index(name = "idx_books_user_created", columnList = "user_id, created_at, id"),
+    @Index(name = "idx_books_user_title", columnList = "user_id, title, id"),
+    @Index(name = "idx_books_user_author", columnList = "user_id, author, id"),
+    // 공개 피드 키셋 조회용
+    @Index(name = "idx_books_public_created", columnList = "is_public, created_at, id"),
+    // 표지 참조 수 확인용
+    @Index(name = "idx_books_cover_image_path", columnList = "cover_image_path")
+})
+// 2차 캐시 - 작성자는 user_id 로 함께 저장되고 User 영역에서 풀린다
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Book {
+    // IDENTITY 는 INSERT 마다 키를 돌려받아야 해서 JDBC 배치가 불가능하다. 시퀀스에서 50개씩 미리 받아 둔다.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "books_seq")
+    @SequenceGenerator(name = "books_seq", sequenceName = "books_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false, length = 500)
@@ -57,6 +73,11 @@ public class Book {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
     
+    // 낙관적 잠금 - 수정은 클라이언트가 읽은 버전일 때만 적용된다 (기존 행은 0 부터 시작)
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+    
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -0,0 +1,24 @@
+package com.booklog.booklog_backend.event;
+
+import com.booklog.booklog_backend.entity.Book;
+import com.booklog.booklog_backend.repository.BookSummary;
+
+/**
+ * 책이 생성/수정/삭제되었을 때 발행되는 이벤트.
+ * 삭제된 경우 book 과 summary 는 null 이다.
+ */
+public record BookChangedEvent(Long userId, Long bookId, BookSnapshot book, BookSummary summary) {
+
+    public static BookChangedEvent saved(Book book) {
+        BookSnapshot snapshot = BookSnapshot.of(book);
+        return new BookChangedEvent(snapshot.userId(), snapshot.id(), snapshot, BookSummary.of(book));
+    }
+
+    public static BookChangedEvent deleted(Long userId, Long bookId) {
+        return new BookChangedEvent(userId, bookId, null, null);
+    }
+
+    public boolean isDeleted() {
+        return book == null;
+    }
+}
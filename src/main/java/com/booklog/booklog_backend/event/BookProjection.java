@@ -0,0 +1,134 @@
+package com.booklog.booklog_backend.event;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * books 테이블에서 만든 메모리 상태(S)를 변경 이벤트로 따라가게 한다.
+ * 이벤트는 현재 상태에 바로 적용하고, {@link #rebuild()} 는 books 를 ID 순으로 나눠 읽어
+ * 새 상태를 만든 뒤 통째로 바꿔 끼운다. 읽는 동안 들어온 이벤트는 모아 두었다가 새 상태에 다시 적용하므로,
+ * 이벤트 적용은 책 단위로 덮어쓰는 연산이어야 한다 (이미 읽힌 변경이 한 번 더 적용될 수 있다).
+ * 읽다가 실패하면 기존 상태를 그대로 둔다.
+ *
+ * @param <S> 메모리 상태. 이벤트 적용과 조회가 동시에 일어나므로 스스로 동시성을 보장해야 한다.
+ * @param <R> 재생성 때 읽는 행
+ */
+@Slf4j
+public final class BookProjection<S, R> {
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final String name;
+    private final Supplier<S> empty;
+    private final BiFunction<Long, Limit, List<R>> batchAfter;
+    private final Function<R, Long> idOf;
+    private final BiConsumer<S, R> load;
+    private final BiConsumer<S, BookChangedEvent> apply;
+
+    // 이벤트 적용, 대기 목록, 상태 교체를 묶는다
+    private final ReentrantLock lock = new ReentrantLock();
+    // 시작 시와 주기적 재생성이 겹치지 않게 한다. 재생성은 DB 를 기다리므로 synchronized 대신 락을 써서
+    // 가상 스레드가 캐리어 스레드를 붙잡지(pinning) 않게 한다.
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private volatile S state;
+    // 다시 만드는 중에만 null 이 아니다
+    private List<BookChangedEvent> pending;
+
+    /**
+     * @param name       로그에 쓰는 이름
+     * @param empty      빈 상태를 만든다
+     * @param batchAfter {@code lastId} 보다 큰 ID 의 행을 ID 순으로 최대 limit 개 읽는다
+     * @param idOf       행의 책 ID
+     * @param load       읽은 행을 새 상태에 더한다
+     * @param apply      변경 이벤트를 상태에 적용한다
+     */
+    public BookProjection(String name,
+                          Supplier<S> empty,
+                          BiFunction<Long, Limit, List<R>> batchAfter,
+                          Function<R, Long> idOf,
+                          BiConsumer<S, R> load,
+                          BiConsumer<S, BookChangedEvent> apply) {
+        this.name = name;
+        this.empty = empty;
+        this.batchAfter = batchAfter;
+        this.idOf = idOf;
+        this.load = load;
+        this.apply = apply;
+        this.state = empty.get();
+    }
+
+    /**
+     * 현재 상태. 잠그지 않고 읽는다.
+     */
+    public S current() {
+        return state;
+    }
+
+    public void apply(BookChangedEvent event) {
+        lock.lock();
+        try {
+            apply.accept(state, event);
+            if (pending != null) {
+                pending.add(event);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            rebuildFromDatabase();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void rebuildFromDatabase() {
+        long started = System.currentTimeMillis();
+        lock.lock();
+        try {
+            pending = new ArrayList<>();
+        } finally {
+            lock.unlock();
+        }
+
+        S fresh = empty.get();
+        long count = 0;
+        boolean completed = false;
+        try {
+            Long lastId = 0L;
+            List<R> batch;
+            do {
+                batch = batchAfter.apply(lastId, Limit.of(REBUILD_BATCH_SIZE));
+                for (R row : batch) {
+                    load.accept(fresh, row);
+                    lastId = idOf.apply(row);
+                }
+                count += batch.size();
+            } while (batch.size() == REBUILD_BATCH_SIZE);
+            completed = true;
+        } finally {
+            lock.lock();
+            try {
+                if (completed) {
+                    pending.forEach(event -> apply.accept(fresh, event));
+                    state = fresh;
+                }
+                pending = null;
+            } finally {
+                lock.unlock();
+            }
+        }
+        log.debug("{} 생성 완료: {}권, {}ms", name, count, System.currentTimeMillis() - started);
+    }
+}
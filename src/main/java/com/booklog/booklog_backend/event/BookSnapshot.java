@@ -0,0 +1,31 @@
+package com.booklog.booklog_backend.event;
+
+import com.booklog.booklog_backend.entity.Book;
+
+import java.time.LocalDateTime;
+
+/**
+ * 커밋 이후 리스너에서 사용하는 책의 불변 스냅샷.
+ * 엔티티는 트랜잭션이 끝나면 분리되므로 필요한 필드만 복사해서 전달한다.
+ */
+public record BookSnapshot(
+        Long id,
+        Long userId,
+        String title,
+        String author,
+        String publisher,
+        String review,
+        LocalDateTime createdAt) {
+
+    public static BookSnapshot of(Book book) {
+        return new BookSnapshot(
+            book.getId(),
+            book.getUser().getId(),
+            book.getTitle(),
+            book.getAuthor(),
+            book.getPublisher(),
+            book.getReview(),
+            book.getCreatedAt()
+        );
+    }
+}
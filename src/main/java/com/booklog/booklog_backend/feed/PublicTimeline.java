@@ -0,0 +1,218 @@
+package com.booklog.booklog_backend.feed;
+
+import com.booklog.booklog_backend.event.BookChangedEvent;
+import com.booklog.booklog_backend.repository.BookRepository;
+import com.booklog.booklog_backend.repository.BookSummary;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 공개 책 피드의 최신 구간을 메모리에 들고 있는 타임라인.
+ * 최신 등록순(생성 시각, ID 내림차순)으로 최대 {@code feed.timeline.capacity} 권의 요약을 보관하고,
+ * 책이 변경될 때마다 커밋 이후 갱신된다.
+ *
+ * 변경은 락 안에서 새 목록을 만들어 통째로 바꾸고(copy-on-write), 읽기는 volatile 참조만 읽으므로 잠그지 않는다.
+ * 다른 노드에서 일어난 변경은 주기적으로 다시 채울 때 반영된다. 다시 채우는 동안에는 락 밖에서 DB 를 읽고,
+ * 그 사이 들어온 변경을 모아 두었다가 새 창에 다시 적용한 뒤 바꿔 끼운다.
+ * 삭제로 창이 줄어 다시 채워야 할 때도 커밋 이후 리스너에서 DB 를 읽지 않고 스케줄러 스레드에 맡긴다.
+ */
+@Component
+@Slf4j
+public class PublicTimeline {
+    private static final Comparator<BookSummary> NEWEST_FIRST =
+        Comparator.comparing(BookSummary::createdAt).thenComparing(BookSummary::id).reversed();
+
+    private final BookRepository bookRepository;
+    private final int capacity;
+    private final TaskScheduler taskScheduler;
+    // 창 교체와 대기 목록을 묶는다. 커밋 이후 리스너가 기다리므로 이 락을 잡은 채 DB 를 읽지 않는다
+    private final ReentrantLock writeLock = new ReentrantLock();
+    // 시작 시, 주기적, 삭제 후 다시 채우기가 겹치지 않게 한다
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    // 연달아 삭제되어도 다시 채우기는 한 번만 예약한다
+    private final AtomicBoolean refillScheduled = new AtomicBoolean();
+
+    // complete 이면 창 밖에 더 오래된 공개 책이 없다
+    private record Window(List<BookSummary> entries, boolean complete) {
+    }
+
+    // 채우기 전에는 비어 있고 완전하지 않으므로 모든 조회가 DB 로 간다
+    private volatile Window window = new Window(List.of(), false);
+    // 다시 채우는 중에만 null 이 아니다
+    private List<BookChangedEvent> pending;
+
+    public PublicTimeline(BookRepository bookRepository,
+                          TaskScheduler taskScheduler,
+                          @Value("${feed.timeline.capacity}") int capacity) {
+        this.bookRepository = bookRepository;
+        this.taskScheduler = taskScheduler;
+        this.capacity = capacity;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            refill();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void refill() {
+        writeLock.lock();
+        try {
+            pending = new ArrayList<>();
+        } finally {
+            writeLock.unlock();
+        }
+
+        List<BookSummary> newest = null;
+        try {
+            // 창 밖에 더 있는지 알기 위해 한 건 더 읽는다
+            newest = bookRepository.findFirstPublicOrderByCreatedAt(Limit.of(capacity + 1));
+        } finally {
+            writeLock.lock();
+            try {
+                if (newest != null) {
+                    boolean complete = newest.size() <= capacity;
+                    Window fresh = new Window(List.copyOf(complete ? newest : newest.subList(0, capacity)), complete);
+                    for (BookChangedEvent event : pending) {
+                        fresh = apply(fresh, event);
+                    }
+                    window = fresh;
+                    log.debug("공개 피드 타임라인 갱신: {}권", fresh.entries().size());
+                }
+                pending = null;
+            } finally {
+                writeLock.unlock();
+            }
+        }
+    }
+
+    @Scheduled(initialDelayString = "${feed.timeline.refresh-interval}",
+               fixedDelayString = "${feed.timeline.refresh-interval}")
+    public void refresh() {
+        rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        boolean shrunk;
+        writeLock.lock();
+        try {
+            Window current = window;
+            window = apply(current, event);
+            if (pending != null) {
+                pending.add(event);
+            }
+            shrunk = window.entries().size() < current.entries().size()
+                && !window.complete() && window.entries().size() < capacity / 2;
+        } finally {
+            writeLock.unlock();
+        }
+        // 삭제로 창이 너무 줄면 DB 로 가는 조회가 늘어나므로 다시 채운다
+        if (shrunk) {
+            scheduleRefill();
+        }
+    }
+
+    /**
+     * 커서 다음부터 최대 {@code limit} 권을 반환한다. 커서가 null 이면 처음부터.
+     * 요청 구간이 메모리 창을 벗어나면 비어 있는 Optional 을 반환하며 호출자가 DB 에서 읽는다.
+     */
+    public Optional<List<BookSummary>> page(LocalDateTime createdAt, Long id, int limit) {
+        Window current = window;
+        List<BookSummary> entries = current.entries();
+        int start = createdAt == null ? 0 : positionAfter(entries, createdAt, id);
+        int end = start + limit;
+        if (end > entries.size()) {
+            if (!current.complete()) {
+                return Optional.empty();
+            }
+            end = entries.size();
+        }
+        return Optional.of(entries.subList(start, end));
+    }
+
+    public int size() {
+        return window.entries().size();
+    }
+
+    private Window apply(Window current, BookChangedEvent event) {
+        if (event.isDeleted() || !Boolean.TRUE.equals(event.summary().isPublic())) {
+            return withoutBook(current, event.bookId());
+        }
+        return withBook(current, event.summary());
+    }
+
+    private Window withBook(Window current, BookSummary book) {
+        List<BookSummary> entries = new ArrayList<>(current.entries());
+        entries.removeIf(entry -> entry.id().equals(book.id()));
+
+        int position = insertionPoint(entries, book);
+        boolean complete = current.complete();
+        // 창의 마지막보다 오래된 책은 창이 완전할 때만 넣는다. 아니면 DB 조회 구간에 속한다.
+        if (position < entries.size() || complete) {
+            entries.add(position, book);
+            if (entries.size() > capacity) {
+                entries.remove(entries.size() - 1);
+                complete = false;
+            }
+        }
+        return new Window(Collections.unmodifiableList(entries), complete);
+    }
+
+    // 창에 없는 책이면 같은 창을 그대로 돌려준다
+    private static Window withoutBook(Window current, Long bookId) {
+        List<BookSummary> entries = new ArrayList<>(current.entries());
+        if (!entries.removeIf(entry -> entry.id().equals(bookId))) {
+            return current;
+        }
+        return new Window(Collections.unmodifiableList(entries), current.complete());
+    }
+
+    private void scheduleRefill() {
+        if (!refillScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            taskScheduler.schedule(() -> {
+                refillScheduled.set(false);
+                rebuild();
+            }, Instant.now());
+        } catch (RuntimeException e) {
+            // 종료 중이면 주기적으로 다시 채울 때 반영된다
+            refillScheduled.set(false);
+            log.debug("공개 피드 타임라인 갱신 예약 실패", e);
+        }
+    }
+
+    private static int positionAfter(List<BookSummary> entries, LocalDateTime createdAt, Long id) {
+        BookSummary probe = new BookSummary(id, null, null, null, null, null, createdAt, null);
+        int found = Collections.binarySearch(entries, probe, NEWEST_FIRST);
+        return found >= 0 ? found + 1 : -found - 1;
+    }
+
+    private static int insertionPoint(List<BookSummary> entries, BookSummary book) {
+        int found = Collections.binarySearch(entries, book, NEWEST_FIRST);
+        return found >= 0 ? found : -found - 1;
+    }
+}
@@ -0,0 +1,172 @@
+package com.booklog.booklog_backend.reactive;
+
+import com.booklog.booklog_backend.dto.BookResponseDto;
+import com.booklog.booklog_backend.dto.BookSummaryDto;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import io.r2dbc.spi.Readable;
+import org.reactivestreams.Publisher;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * 리액티브 읽기 API 의 조회. BookRepository 의 목록/상세 조회와 같은 데이터를 R2DBC 로 읽는다.
+ * 목록은 TEXT 컬럼을 읽지 않고, 작성자 닉네임은 조인으로 함께 가져온다.
+ *
+ * 연결 풀은 빈으로 노출하지 않고 여기서만 쓴다 - ConnectionFactory 빈이 있으면 JDBC DataSource 자동 설정이 꺼진다.
+ *
+ * 내부적으로 블로킹인 드라이버(H2)는 풀이 연결을 넘겨준 스레드에서 쿼리까지 실행하므로,
+ * 연결을 boundedElastic 에서 받아 이벤트 루프나 풀의 스레드 하나에 요청이 몰리지 않게 한다.
+ */
+public class ReactiveBookReader {
+    private static final String SUMMARY_SELECT =
+        "SELECT b.id, b.title, b.author, b.cover_image_path, b.read_date, b.is_public, b.created_at, u.nickname " +
+        "FROM books b JOIN users u ON u.id = b.user_id ";
+    private static final String SEARCH_CONDITION =
+        "(LOWER(b.title) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+        "LOWER(b.author) LIKE LOWER(CONCAT('%', :search, '%')))";
+
+    private final ConnectionPool connectionPool;
+    private final DatabaseClient databaseClient;
+
+    public ReactiveBookReader(ConnectionPool connectionPool, boolean blockingDriver) {
+        this.connectionPool = connectionPool;
+        this.databaseClient = DatabaseClient.create(
+            blockingDriver ? new BoundedElasticConnectionFactory(connectionPool) : connectionPool);
+    }
+
+    public void close() {
+        connectionPool.dispose();
+    }
+
+    public Flux<BookSummaryDto> findSummariesByUserId(Long userId, String sortBy, long offset, int limit) {
+        return databaseClient.sql(SUMMARY_SELECT + "WHERE b.user_id = :userId ORDER BY " + orderBy(sortBy) +
+                " LIMIT :limit OFFSET :offset")
+            .bind("userId", userId)
+            .bind("limit", limit)
+            .bind("offset", offset)
+            .map(ReactiveBookReader::toSummary)
+            .all();
+    }
+
+    public Mono<Long> countByUserId(Long userId) {
+        return databaseClient.sql("SELECT COUNT(*) FROM books b WHERE b.user_id = :userId")
+            .bind("userId", userId)
+            .map(row -> row.get(0, Long.class))
+            .one();
+    }
+
+    // 검색 색인이 준비되기 전에만 쓰는 LIKE 검색
+    public Flux<BookSummaryDto> findSummariesBySearch(Long userId, String search, String sortBy, long offset, int limit) {
+        return databaseClient.sql(SUMMARY_SELECT + "WHERE b.user_id = :userId AND " + SEARCH_CONDITION +
+                " ORDER BY " + orderBy(sortBy) + " LIMIT :limit OFFSET :offset")
+            .bind("userId", userId)
+            .bind("search", search)
+            .bind("limit", limit)
+            .bind("offset", offset)
+            .map(ReactiveBookReader::toSummary)
+            .all();
+    }
+
+    public Mono<Long> countBySearch(Long userId, String search) {
+        return databaseClient.sql("SELECT COUNT(*) FROM books b WHERE b.user_id = :userId AND " + SEARCH_CONDITION)
+            .bind("userId", userId)
+            .bind("search", search)
+            .map(row -> row.get(0, Long.class))
+            .one();
+    }
+
+    // 검색 색인 결과의 책들만 요약 조회 (순서는 호출한 쪽에서 맞춘다)
+    public Flux<BookSummaryDto> findSummariesByIdIn(Collection<Long> ids) {
+        return databaseClient.sql(SUMMARY_SELECT + "WHERE b.id IN (:ids)")
+            .bind("ids", ids)
+            .map(ReactiveBookReader::toSummary)
+            .all();
+    }
+
+    // 상세 조회 - 공개 여부 확인을 위해 작성자 ID 도 함께 반환한다
+    public Mono<OwnedBook> findById(Long bookId) {
+        return databaseClient.sql(
+                "SELECT b.*, u.nickname FROM books b JOIN users u ON u.id = b.user_id WHERE b.id = :id")
+            .bind("id", bookId)
+            .map(row -> new OwnedBook(row.get("user_id", Long.class), toResponse(row)))
+            .one();
+    }
+
+    // 예전에 발급된 토큰(uid 클레임 없음)의 사용자 확인
+    public Mono<Long> findUserIdByEmail(String email) {
+        return databaseClient.sql("SELECT id FROM users WHERE email = :email")
+            .bind("email", email)
+            .map(row -> row.get("id", Long.class))
+            .one();
+    }
+
+    public record OwnedBook(Long userId, BookResponseDto book) {
+    }
+
+    private record BoundedElasticConnectionFactory(ConnectionFactory delegate) implements ConnectionFactory {
+        @Override
+        public Publisher<? extends Connection> create() {
+            return Mono.from(delegate.create()).publishOn(Schedulers.boundedElastic());
+        }
+
+        @Override
+        public ConnectionFactoryMetadata getMetadata() {
+            return delegate.getMetadata();
+        }
+    }
+
+    // BookService.getUserBooks 와 같은 정렬, 같은 값이면 ID 순으로 고정한다
+    private static String orderBy(String sortBy) {
+        if ("title".equals(sortBy)) {
+            return "b.title ASC, b.id ASC";
+        } else if ("author".equals(sortBy)) {
+            return "b.author ASC, b.id ASC";
+        }
+        return "b.created_at DESC, b.id DESC";
+    }
+
+    private static BookSummaryDto toSummary(Readable row) {
+        BookSummaryDto dto = new BookSummaryDto();
+        dto.setId(row.get("id", Long.class));
+        dto.setTitle(row.get("title", String.class));
+        dto.setAuthor(row.get("author", String.class));
+        dto.setReadDate(row.get("read_date", LocalDate.class));
+        dto.setIsPublic(row.get("is_public", Boolean.class));
+        dto.setCreatedAt(row.get("created_at", LocalDateTime.class));
+        dto.setUserNickname(row.get("nickname", String.class));
+        dto.setCoverImageUrl(coverImageUrl(row.get("cover_image_path", String.class)));
+        return dto;
+    }
+
+    private static BookResponseDto toResponse(Readable row) {
+        BookResponseDto dto = new BookResponseDto();
+        dto.setId(row.get("id", Long.class));
+        dto.setTitle(row.get("title", String.class));
+        dto.setAuthor(row.get("author", String.class));
+        dto.setPublisher(row.get("publisher", String.class));
+        dto.setReadDate(row.get("read_date", LocalDate.class));
+        dto.setDescription(row.get("description", String.class));
+        dto.setReview(row.get("review", String.class));
+        dto.setBeforeThoughts(row.get("before_thoughts", String.class));
+        dto.setAfterThoughts(row.get("after_thoughts", String.class));
+        dto.setIsPublic(row.get("is_public", Boolean.class));
+        dto.setCreatedAt(row.get("created_at", LocalDateTime.class));
+        dto.setVersion(row.get("version", Long.class));
+        dto.setUserNickname(row.get("nickname", String.class));
+        dto.setCoverImageUrl(coverImageUrl(row.get("cover_image_path", String.class)));
+        return dto;
+    }
+
+    private static String coverImageUrl(String coverImagePath) {
+        return coverImagePath == null ? null : "/api/images/" + coverImagePath;
+    }
+}
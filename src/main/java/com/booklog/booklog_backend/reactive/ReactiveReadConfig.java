@@ -0,0 +1,91 @@
+package com.booklog.booklog_backend.reactive;
+
+import com.booklog.booklog_backend.search.BookSearchIndex;
+import com.booklog.booklog_backend.security.JwtUtils;
+import com.booklog.booklog_backend.security.PrincipalCache;
+import com.booklog.booklog_backend.service.CoverStore;
+import com.booklog.booklog_backend.storage.BlobStorage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+/**
+ * 읽기 전용 리액티브 API. {@code reactive.enabled} 이면 {@code reactive.port} 에서
+ * BookController 의 목록/상세 조회와 표지 이미지를 같은 경로로 제공한다. 쓰기는 기존 JPA 경로만 사용한다.
+ *
+ * R2DBC 연결은 JPA 와 같은 DB 를 보도록 spring.datasource 설정에서 만든다 (jdbc: -> r2dbc:).
+ */
+@Configuration
+@ConditionalOnProperty(name = "reactive.enabled", havingValue = "true")
+public class ReactiveReadConfig {
+
+    @Bean(destroyMethod = "close")
+    public ReactiveBookReader reactiveBookReader(DataSourceProperties dataSource,
+                                                 @Value("${reactive.pool.max-size}") int maxSize) {
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(r2dbcUrl(dataSource.determineUrl()))
+            .mutate();
+        if (dataSource.determineUsername() != null) {
+            options.option(ConnectionFactoryOptions.USER, dataSource.determineUsername());
+        }
+        if (dataSource.determinePassword() != null) {
+            options.option(ConnectionFactoryOptions.PASSWORD, dataSource.determinePassword());
+        }
+        ConnectionFactoryOptions connectionOptions = options.build();
+        return new ReactiveBookReader(new ConnectionPool(
+            ConnectionPoolConfiguration.builder(ConnectionFactories.get(connectionOptions))
+                .maxSize(maxSize)
+                .build()),
+            "h2".equals(connectionOptions.getValue(ConnectionFactoryOptions.DRIVER)));
+    }
+
+    @Bean
+    public ReactiveReadHandler reactiveReadHandler(ReactiveBookReader reader, BookSearchIndex bookSearchIndex,
+                                                   JwtUtils jwtUtils, PrincipalCache principalCache,
+                                                   CoverStore coverStore, BlobStorage storage) {
+        return new ReactiveReadHandler(reader, bookSearchIndex, jwtUtils, principalCache, coverStore, storage);
+    }
+
+    @Bean
+    public ReactiveReadServer reactiveReadServer(ReactiveReadHandler handler, ObjectMapper objectMapper,
+                                                 @Value("${reactive.host}") String host,
+                                                 @Value("${reactive.port}") int port) {
+        RouterFunction<ServerResponse> routes = RouterFunctions.route()
+            .GET("/api/books/{id:\\d+}", handler::getBook)
+            .GET("/api/books", handler::getUserBooks)
+            .GET("/api/images/{filename}", handler::getImage)
+            .build();
+        // 응답 JSON 을 서블릿 API 와 같은 형식(날짜 등)으로 만든다
+        HandlerStrategies strategies = HandlerStrategies.builder()
+            .codecs(codecs -> {
+                codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+            })
+            .build();
+        return new ReactiveReadServer(RouterFunctions.toHttpHandler(routes, strategies), host, port);
+    }
+
+    // H2 인메모리 DB 는 r2dbc:h2:mem:///이름 형식이다
+    static String r2dbcUrl(String jdbcUrl) {
+        if (jdbcUrl == null || !jdbcUrl.startsWith("jdbc:")) {
+            throw new IllegalStateException("Unsupported datasource URL for R2DBC: " + jdbcUrl);
+        }
+        String url = "r2dbc:" + jdbcUrl.substring("jdbc:".length());
+        if (url.startsWith("r2dbc:h2:mem:") && !url.startsWith("r2dbc:h2:mem:///")) {
+            url = "r2dbc:h2:mem:///" + url.substring("r2dbc:h2:mem:".length());
+        }
+        return url;
+    }
+}
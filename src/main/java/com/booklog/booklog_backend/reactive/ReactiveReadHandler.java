@@ -0,0 +1,234 @@
+package com.booklog.booklog_backend.reactive;
+
+import com.booklog.booklog_backend.dto.BookSummaryDto;
+import com.booklog.booklog_backend.search.BookSearchIndex;
+import com.booklog.booklog_backend.search.SearchHits;
+import com.booklog.booklog_backend.search.SearchOrder;
+import com.booklog.booklog_backend.security.JwtClaims;
+import com.booklog.booklog_backend.security.JwtUtils;
+import com.booklog.booklog_backend.security.PrincipalCache;
+import com.booklog.booklog_backend.security.UserDetailsImpl;
+import com.booklog.booklog_backend.service.BookService;
+import com.booklog.booklog_backend.service.CoverImage;
+import com.booklog.booklog_backend.service.CoverSize;
+import com.booklog.booklog_backend.service.CoverStore;
+import com.booklog.booklog_backend.storage.BlobStorage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 리액티브 읽기 API 의 핸들러. BookController 의 목록/상세 조회와 FileController.getImage 와 같은 응답을 만든다.
+ * DB 는 R2DBC 로, 로컬 표지 파일은 AsynchronousFileChannel 로 읽어 이벤트 루프 스레드를 막지 않는다.
+ */
+@RequiredArgsConstructor
+public class ReactiveReadHandler {
+    private static final int IMAGE_BUFFER_SIZE = 64 * 1024;
+
+    private final ReactiveBookReader reader;
+    private final BookSearchIndex bookSearchIndex;
+    private final JwtUtils jwtUtils;
+    private final PrincipalCache principalCache;
+    private final CoverStore coverStore;
+    private final BlobStorage storage;
+    private final DataBufferFactory bufferFactory = DefaultDataBufferFactory.sharedInstance;
+
+    // GET /api/books - BookService.getUserBooks 와 같은 페이지
+    public Mono<ServerResponse> getUserBooks(ServerRequest request) {
+        String search = request.queryParam("search").orElse("").trim();
+        String sortBy = request.queryParam("sortBy").orElse("date");
+
+        return authenticate(request).flatMap(userId -> {
+            int page;
+            int size;
+            try {
+                page = intParam(request, "page", 0, 0);
+                size = Math.min(intParam(request, "size", 20, 1), BookService.MAX_PAGE_SIZE);
+            } catch (IllegalArgumentException e) {
+                return badRequest(e.getMessage());
+            }
+            Pageable pageable = PageRequest.of(page, size, sort(sortBy));
+            Mono<PageImpl<BookSummaryDto>> books;
+            if (search.isEmpty()) {
+                books = toPage(reader.findSummariesByUserId(userId, sortBy, pageable.getOffset(), size),
+                    reader.countByUserId(userId), pageable);
+            } else if (bookSearchIndex.isReady()) {
+                books = searchUserBooks(userId, search, SearchOrder.of(sortBy), pageable);
+            } else {
+                // 색인 생성 전에는 LIKE 검색으로 대체
+                books = toPage(reader.findSummariesBySearch(userId, search, sortBy, pageable.getOffset(), size),
+                    reader.countBySearch(userId, search), pageable);
+            }
+            return books.flatMap(body -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(body));
+        }).switchIfEmpty(forbidden());
+    }
+
+    // GET /api/books/{id} - BookService.getBook 과 같은 권한 규칙
+    public Mono<ServerResponse> getBook(ServerRequest request) {
+        return authenticate(request).flatMap(userId -> {
+            Long bookId;
+            try {
+                bookId = idParam(request, "id");
+            } catch (IllegalArgumentException e) {
+                return badRequest(e.getMessage());
+            }
+            return reader.findById(bookId)
+                .flatMap(owned -> {
+                    if (!owned.userId().equals(userId) && !Boolean.TRUE.equals(owned.book().getIsPublic())) {
+                        return badRequest("Access denied");
+                    }
+                    return ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(owned.book());
+                })
+                .switchIfEmpty(badRequest("Book not found"));
+        }).switchIfEmpty(forbidden());
+    }
+
+    // GET /api/images/{filename} - 파생 크기와 응답 헤더는 FileController 와 같이 CoverImage 로 정한다. Range 요청은 전체를 보낸다.
+    public Mono<ServerResponse> getImage(ServerRequest request) {
+        String filename = request.pathVariable("filename");
+        CoverSize coverSize = CoverSize.fromParam(request.queryParam("size").orElse(null));
+
+        // stat 은 S3 저장소에서 네트워크 호출이므로 이벤트 루프 밖에서 한다
+        return Mono.fromCallable(() -> coverStore.findImage(filename, coverSize))
+            .subscribeOn(Schedulers.boundedElastic())
+            .flatMap(found -> found.map(image -> serve(request, filename, image))
+                .orElseGet(() -> ServerResponse.notFound().build()));
+    }
+
+    private Mono<ServerResponse> serve(ServerRequest request, String filename, CoverImage image) {
+        return request.checkNotModified(image.etag())
+            .switchIfEmpty(Mono.defer(() -> ServerResponse.ok()
+                .header(HttpHeaders.CACHE_CONTROL, image.cacheControl())
+                .eTag(image.etag())
+                .contentType(MediaType.parseMediaType(image.contentType()))
+                .contentLength(image.info().size())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                    ContentDisposition.inline().filename(filename, StandardCharsets.UTF_8).build().toString())
+                .body(BodyInserters.fromDataBuffers(read(image.name(), image.info().size())))));
+    }
+
+    // 로컬 파일은 비동기 파일 채널로, 그 밖의 저장소는 스트림을 이벤트 루프 밖에서 읽는다
+    private Flux<DataBuffer> read(String name, long length) {
+        Optional<Path> localFile = storage.localPath(name);
+        if (localFile.isPresent()) {
+            return DataBufferUtils.readAsynchronousFileChannel(
+                () -> AsynchronousFileChannel.open(localFile.get(), StandardOpenOption.READ),
+                bufferFactory, IMAGE_BUFFER_SIZE);
+        }
+        return DataBufferUtils.readInputStream(() -> storage.open(name, 0, length), bufferFactory, IMAGE_BUFFER_SIZE)
+            .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    // 색인에서 정렬 기준대로 고른 한 페이지 분량의 책만 조회한다
+    private Mono<PageImpl<BookSummaryDto>> searchUserBooks(Long userId, String search, SearchOrder order, Pageable pageable) {
+        SearchHits hits = bookSearchIndex.search(userId, search, order, pageable.getPageNumber(), pageable.getPageSize());
+        if (hits.ids().isEmpty()) {
+            return Mono.just(new PageImpl<>(List.of(), pageable, hits.total()));
+        }
+        return reader.findSummariesByIdIn(hits.ids())
+            .collectMap(BookSummaryDto::getId, Function.identity())
+            .map(books -> new PageImpl<>(hits.ids().stream()
+                .map(books::get)
+                .filter(book -> book != null)
+                .toList(), pageable, hits.total()));
+    }
+
+    private static Mono<PageImpl<BookSummaryDto>> toPage(Flux<BookSummaryDto> content, Mono<Long> total, Pageable pageable) {
+        return Mono.zip(content.collectList(), total)
+            .map(tuple -> new PageImpl<>(tuple.getT1(), pageable, tuple.getT2()));
+    }
+
+    // AuthTokenFilter 와 같은 규칙. uid 클레임이 없는 예전 토큰은 이메일로 사용자를 찾는다. 인증되지 않으면 빈 값
+    private Mono<Long> authenticate(ServerRequest request) {
+        String header = request.headers().firstHeader(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.startsWith("Bearer ")) {
+            return Mono.empty();
+        }
+        Optional<JwtClaims> claims = jwtUtils.verify(header.substring(7));
+        if (claims.isEmpty()) {
+            return Mono.empty();
+        }
+        Long userId = claims.get().userId();
+        String email = claims.get().email();
+        if (userId == null) {
+            return reader.findUserIdByEmail(email);
+        }
+        // 캐시된 사용자면 DB 를 읽지 않고, 없으면 사용자가 아직 있고 이메일이 같은지 확인한다
+        Optional<UserDetailsImpl> cached = principalCache.getIfPresent(userId);
+        if (cached.isPresent()) {
+            return cached.get().getUsername().equals(email) ? Mono.just(userId) : Mono.empty();
+        }
+        return reader.findUserIdByEmail(email).filter(userId::equals);
+    }
+
+    private static Sort sort(String sortBy) {
+        if ("title".equals(sortBy)) {
+            return Sort.by(Sort.Direction.ASC, "title");
+        } else if ("author".equals(sortBy)) {
+            return Sort.by(Sort.Direction.ASC, "author");
+        }
+        return Sort.by(Sort.Direction.DESC, "createdAt");
+    }
+
+    // 숫자가 아니거나 min 보다 작으면 IllegalArgumentException. BookController 와 같이 400 으로 응답한다
+    private static int intParam(ServerRequest request, String name, int defaultValue, int min) {
+        Optional<String> raw = request.queryParam(name);
+        if (raw.isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            int value = Integer.parseInt(raw.get().trim());
+            if (value >= min) {
+                return value;
+            }
+        } catch (NumberFormatException e) {
+            // 아래에서 같은 메시지로 거절한다
+        }
+        throw new IllegalArgumentException("Invalid " + name + ": " + raw.get());
+    }
+
+    // 경로 패턴(\d+)은 자릿수를 막지 않으므로 long 범위를 넘으면 intParam 과 같이 IllegalArgumentException
+    private static long idParam(ServerRequest request, String name) {
+        String raw = request.pathVariable(name);
+        try {
+            return Long.parseLong(raw);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + name + ": " + raw);
+        }
+    }
+
+    // GlobalExceptionHandler 와 같은 형식
+    private static Mono<ServerResponse> badRequest(String message) {
+        return ServerResponse.badRequest().contentType(MediaType.APPLICATION_JSON).bodyValue(Map.of("error", message));
+    }
+
+    // 인증되지 않은 요청은 보안 설정과 같이 403
+    private static Mono<ServerResponse> forbidden() {
+        return Mono.defer(() -> ServerResponse.status(HttpStatus.FORBIDDEN).build());
+    }
+}
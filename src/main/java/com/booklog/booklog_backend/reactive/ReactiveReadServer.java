@@ -0,0 +1,56 @@
+package com.booklog.booklog_backend.reactive;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Duration;
+
+/**
+ * 리액티브 읽기 API 를 서블릿 서버와 별도의 포트에서 Reactor Netty 로 띄운다.
+ * 요청은 소수의 이벤트 루프 스레드에서 처리되므로 느린 클라이언트가 많아도 스레드를 붙잡지 않는다.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveReadServer implements SmartLifecycle {
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+
+    private final HttpHandler httpHandler;
+    private final String host;
+    private final int port;
+
+    private volatile DisposableServer server;
+
+    @Override
+    public void start() {
+        server = HttpServer.create()
+            .host(host)
+            .port(port)
+            .handle(new ReactorHttpHandlerAdapter(httpHandler))
+            .bindNow();
+        log.info("리액티브 읽기 API 시작: 포트 {}", server.port());
+    }
+
+    @Override
+    public void stop() {
+        DisposableServer current = server;
+        if (current != null) {
+            current.disposeNow(SHUTDOWN_TIMEOUT);
+            server = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    // 포트를 0 으로 두었을 때 실제로 열린 포트
+    public int port() {
+        return server.port();
+    }
+}
@@ -0,0 +1,9 @@
+package com.booklog.booklog_backend.repository;
+
+/**
+ * 표지 마이그레이션용 프로젝션 (책 ID 와 표지 키).
+ */
+public record BookCover(
+        Long id,
+        String coverImagePath) {
+}
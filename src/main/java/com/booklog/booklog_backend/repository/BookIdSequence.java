@@ -0,0 +1,36 @@
+package com.booklog.booklog_backend.repository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * books.id 를 AUTO_INCREMENT 에서 시퀀스로 바꾸면서, 기존 행이 있는 DB 에 새로 만들어진
+ * books_seq 가 이미 쓰인 ID 를 다시 내주지 않도록 시작 시 최대 ID 뒤로 옮긴다.
+ * 스키마가 만들어진 뒤(엔티티 매니저 팩토리 초기화 후), 요청을 받기 전에 실행된다.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+@Slf4j
+public class BookIdSequence {
+    // Book 의 @SequenceGenerator allocationSize 와 같아야 한다
+    private static final long ALLOCATION_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void align() {
+        long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM books", Long.class);
+        long next = jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR books_seq", Long.class);
+        // 블록의 시작(next - allocationSize + 1)까지 기존 ID 와 겹치지 않아야 한다
+        if (next - ALLOCATION_SIZE < maxId) {
+            long restart = maxId + ALLOCATION_SIZE + 1;
+            jdbcTemplate.execute("ALTER SEQUENCE books_seq RESTART WITH " + restart);
+            log.info("books_seq 를 {} 부터 다시 시작합니다 (기존 최대 ID {})", restart, maxId);
+        }
+    }
+}
@@ -1,30 +1,179 @@
 package com.booklog.booklog_backend.repository;
 
 import com.booklog.booklog_backend.entity.Book;
+import com.booklog.booklog_backend.event.BookSnapshot;
+import com.booklog.booklog_backend.search.SuggestEntry;
+import com.booklog.booklog_backend.stats.BookStatEntry;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface BookRepository extends JpaRepository<Book, Long> {
+public interface BookRepository extends JpaRepository<Book, Long>, OwnedBookWrites {
+    
+    String SUMMARY_SELECT = "SELECT new com.booklog.booklog_backend.repository.BookSummary(" +
+        "b.id, b.title, b.author, b.coverImagePath, b.readDate, b.isPublic, b.createdAt, u.nickname) " +
+        "FROM Book b JOIN b.user u ";
+    
+    // 자주 반복되는 목록 쿼리의 결과 캐시 영역. books/users 테이블이 바뀌면 Hibernate 가 통째로 무효화한다.
+    String LIST_CACHE_REGION = "book-lists";
     
-    // 사용자별 책 목록 조회 (날짜순)
-    Page<Book> findByUserIdOrderByCreatedAtDesc(Long userId, Pageable pageable);
+    // 사용자별 책 목록 조회 (요약) - 정렬은 Pageable 로 지정
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = LIST_CACHE_REGION)
+    })
+    @Query(value = SUMMARY_SELECT + "WHERE b.user.id = :userId",
+           countQuery = "SELECT COUNT(b) FROM Book b WHERE b.user.id = :userId")
+    Page<BookSummary> findSummariesByUserId(@Param("userId") Long userId, Pageable pageable);
     
     // 검색 기능 - @Query 어노테이션으로 명시적 정의
-    @Query("SELECT b FROM Book b WHERE b.user.id = :userId AND " +
+    @Query(value = SUMMARY_SELECT + "WHERE b.user.id = :userId AND " +
+           "(LOWER(b.title) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "LOWER(b.author) LIKE LOWER(CONCAT('%', :search, '%')))",
+           countQuery = "SELECT COUNT(b) FROM Book b WHERE b.user.id = :userId AND " +
            "(LOWER(b.title) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
            "LOWER(b.author) LIKE LOWER(CONCAT('%', :search, '%')))")
-    Page<Book> findByUserIdAndSearch(@Param("userId") Long userId, 
+    Page<BookSummary> findByUserIdAndSearch(@Param("userId") Long userId, 
                                    @Param("search") String search, 
                                    Pageable pageable);
     
-    // 공개된 책 목록 (향후 기능)
-    Page<Book> findByIsPublicTrueOrderByCreatedAtDesc(Pageable pageable);
+    // 키셋 페이지네이션 - 최신 등록순 (ID 로 동순위 정렬)
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = LIST_CACHE_REGION)
+    })
+    @Query(SUMMARY_SELECT + "WHERE b.user.id = :userId ORDER BY b.createdAt DESC, b.id DESC")
+    List<BookSummary> findFirstByUserIdOrderByCreatedAt(@Param("userId") Long userId, Limit limit);
+    
+    @Query(SUMMARY_SELECT + "WHERE b.user.id = :userId AND " +
+           "(b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.id < :id)) " +
+           "ORDER BY b.createdAt DESC, b.id DESC")
+    List<BookSummary> findNextByUserIdOrderByCreatedAt(@Param("userId") Long userId,
+                                                @Param("createdAt") LocalDateTime createdAt,
+                                                @Param("id") Long id,
+                                                Limit limit);
+    
+    // 키셋 페이지네이션 - 제목순
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = LIST_CACHE_REGION)
+    })
+    @Query(SUMMARY_SELECT + "WHERE b.user.id = :userId ORDER BY b.title ASC, b.id ASC")
+    List<BookSummary> findFirstByUserIdOrderByTitle(@Param("userId") Long userId, Limit limit);
+    
+    @Query(SUMMARY_SELECT + "WHERE b.user.id = :userId AND " +
+           "(b.title > :title OR (b.title = :title AND b.id > :id)) " +
+           "ORDER BY b.title ASC, b.id ASC")
+    List<BookSummary> findNextByUserIdOrderByTitle(@Param("userId") Long userId,
+                                            @Param("title") String title,
+                                            @Param("id") Long id,
+                                            Limit limit);
+    
+    // 키셋 페이지네이션 - 저자순
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = LIST_CACHE_REGION)
+    })
+    @Query(SUMMARY_SELECT + "WHERE b.user.id = :userId ORDER BY b.author ASC, b.id ASC")
+    List<BookSummary> findFirstByUserIdOrderByAuthor(@Param("userId") Long userId, Limit limit);
+    
+    @Query(SUMMARY_SELECT + "WHERE b.user.id = :userId AND " +
+           "(b.author > :author OR (b.author = :author AND b.id > :id)) " +
+           "ORDER BY b.author ASC, b.id ASC")
+    List<BookSummary> findNextByUserIdOrderByAuthor(@Param("userId") Long userId,
+                                             @Param("author") String author,
+                                             @Param("id") Long id,
+                                             Limit limit);
+    
+    // 검색 색인 결과의 책들만 요약 조회
+    @Query(SUMMARY_SELECT + "WHERE b.id IN :ids")
+    List<BookSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+    
+    // 단건/다건 조회 시 작성자를 함께 가져와 지연 로딩 쿼리를 막는다
+    @Override
+    @EntityGraph(attributePaths = "user")
+    Optional<Book> findById(Long id);
+    
+    @Override
+    @EntityGraph(attributePaths = "user")
+    List<Book> findAllById(Iterable<Long> ids);
+    
+    // 공개 피드 - 최신 등록순 키셋 (메모리 타임라인 채우기와 그 밖의 페이지 조회용)
+    @Query(SUMMARY_SELECT + "WHERE b.isPublic = true ORDER BY b.createdAt DESC, b.id DESC")
+    List<BookSummary> findFirstPublicOrderByCreatedAt(Limit limit);
+    
+    @Query(SUMMARY_SELECT + "WHERE b.isPublic = true AND " +
+           "(b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.id < :id)) " +
+           "ORDER BY b.createdAt DESC, b.id DESC")
+    List<BookSummary> findNextPublicOrderByCreatedAt(@Param("createdAt") LocalDateTime createdAt,
+                                                     @Param("id") Long id,
+                                                     Limit limit);
+    
+    // 내보내기용 - 전체를 한 번에 올리지 않고 커서로 흘려 읽는다. 트랜잭션 안에서 소비하고 닫아야 한다.
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT b FROM Book b WHERE b.user.id = :userId ORDER BY b.id")
+    Stream<Book> streamByUserId(@Param("userId") Long userId);
+    
+    // 조건부 쓰기(updateOwned/deleteOwned)가 실패했을 때만 원인(없음/권한 없음/버전 충돌)을 가리기 위해 조회한다
+    @Query("SELECT b.user.id FROM Book b WHERE b.id = :id")
+    Optional<Long> findOwnerIdById(@Param("id") Long id);
     
     // 사용자의 책 개수
     long countByUserId(Long userId);
+    
+    // 검색 색인 재생성용 - ID 기준 키셋 순회
+    @Query("SELECT new com.booklog.booklog_backend.event.BookSnapshot(" +
+           "b.id, b.user.id, b.title, b.author, b.publisher, b.review, b.createdAt) " +
+           "FROM Book b WHERE b.id > :lastId ORDER BY b.id")
+    List<BookSnapshot> findSnapshotsAfter(@Param("lastId") Long lastId, Limit limit);
+    
+    // 독서 통계 재생성용 - ID 기준 키셋 순회
+    @Query("SELECT new com.booklog.booklog_backend.stats.BookStatEntry(" +
+           "b.id, b.user.id, b.author, b.publisher, b.readDate, b.isPublic) " +
+           "FROM Book b WHERE b.id > :lastId ORDER BY b.id")
+    List<BookStatEntry> findStatEntriesAfter(@Param("lastId") Long lastId, Limit limit);
+    
+    // 자동 완성 색인 재생성용 - ID 기준 키셋 순회
+    @Query("SELECT new com.booklog.booklog_backend.search.SuggestEntry(" +
+           "b.id, b.user.id, b.title, b.author, b.publisher, b.isPublic) " +
+           "FROM Book b WHERE b.id > :lastId ORDER BY b.id")
+    List<SuggestEntry> findSuggestEntriesAfter(@Param("lastId") Long lastId, Limit limit);
+    
+    // 표지 참조 수 - 같은 내용의 표지를 여러 책이 공유한다
+    long countByCoverImagePath(String coverImagePath);
+    
+    // 표지 정리용 - 주어진 키 중 아직 책이 참조하는 것만 반환
+    @Query("SELECT DISTINCT b.coverImagePath FROM Book b WHERE b.coverImagePath IN :keys")
+    List<String> findReferencedCoverImagePaths(@Param("keys") Collection<String> keys);
+    
+    // 표지 마이그레이션용 - ID 기준 키셋 순회
+    @Query("SELECT new com.booklog.booklog_backend.repository.BookCover(b.id, b.coverImagePath) " +
+           "FROM Book b WHERE b.id > :lastId AND b.coverImagePath IS NOT NULL ORDER BY b.id")
+    List<BookCover> findCoversAfter(@Param("lastId") Long lastId, Limit limit);
+    
+    // 그 사이 다른 표지로 바뀌었으면 덮어쓰지 않는다
+    @Transactional
+    @Modifying
+    @Query("UPDATE Book b SET b.coverImagePath = :key WHERE b.id = :id AND b.coverImagePath = :previous")
+    int replaceCoverImagePath(@Param("id") Long id, @Param("previous") String previous, @Param("key") String key);
 }
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.booklog.booklog_backend.repository;
+
+import com.booklog.booklog_backend.entity.Book;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 목록 화면용 책 요약 프로젝션.
+ * TEXT 컬럼(소개, 독후감 등)은 읽지 않고 작성자 닉네임은 조인으로 함께 가져온다.
+ */
+public record BookSummary(
+        Long id,
+        String title,
+        String author,
+        String coverImagePath,
+        LocalDate readDate,
+        Boolean isPublic,
+        LocalDateTime createdAt,
+        String userNickname) {
+
+    // 작성자가 이미 로드된 엔티티에서 만든다 (커밋 이후 리스너에 전달용)
+    public static BookSummary of(Book book) {
+        return new BookSummary(
+            book.getId(),
+            book.getTitle(),
+            book.getAuthor(),
+            book.getCoverImagePath(),
+            book.getReadDate(),
+            book.getIsPublic(),
+            book.getCreatedAt(),
+            book.getUser().getNickname()
+        );
+    }
+}
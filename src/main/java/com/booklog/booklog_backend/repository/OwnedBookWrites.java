@@ -0,0 +1,24 @@
+package com.booklog.booklog_backend.repository;
+
+import com.booklog.booklog_backend.dto.BookDto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 소유자(와 버전) 확인을 겸한 책 수정/삭제. {@link BookRepository} 에 합쳐진다.
+ * 한 문장으로 확인하고 쓰므로 읽고-확인하고-쓰는 사이에 다른 요청이 끼어들 수 없다.
+ * 트랜잭션 안에서 호출해야 한다.
+ */
+public interface OwnedBookWrites {
+
+    /**
+     * 다른 사용자의 책이거나 클라이언트가 읽은 버전({@code book.version})과 다르면 0 을 반환한다.
+     * 버전이 null 이면 확인하지 않고, 표지({@code cover})와 공개 여부가 null 이면 기존 값을 유지한다.
+     */
+    int updateOwned(Long id, Long userId, BookDto book, String cover, LocalDateTime now);
+
+    /**
+     * 다른 사용자의 책이면 0 을 반환한다.
+     */
+    int deleteOwned(Long id, Long userId);
+}
@@ -0,0 +1,105 @@
+package com.booklog.booklog_backend.repository;
+
+import com.booklog.booklog_backend.dto.BookDto;
+import com.booklog.booklog_backend.entity.Book;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.cache.spi.TimestampsCache;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Types;
+import java.time.LocalDateTime;
+
+/**
+ * JPQL 벌크 수정/삭제는 Hibernate 가 Book 2차 캐시 영역을 통째로 비우므로, 같은 트랜잭션의 커넥션으로
+ * 직접 쓰고 바뀐 책 한 권의 캐시 항목만 다룬다. Hibernate 가 엔티티를 수정할 때와 같은 순서다:
+ * 쓰기 전에 항목을 잠가(soft lock) 커밋 전까지 다른 세션이 옛 값이나 커밋되지 않은 값을 넣지 못하게 하고,
+ * 트랜잭션이 끝나면 항목을 지워 다음 조회가 DB 에서 읽게 한다. 목록 쿼리 캐시는 books 테이블 단위로 무효화한다.
+ */
+public class OwnedBookWritesImpl implements OwnedBookWrites {
+    private static final String UPDATE_OWNED = "UPDATE books SET title = ?, author = ?, publisher = ?, read_date = ?, "
+        + "description = ?, review = ?, before_thoughts = ?, after_thoughts = ?, "
+        + "is_public = COALESCE(?, is_public), cover_image_path = COALESCE(?, cover_image_path), "
+        + "updated_at = ?, version = version + 1 "
+        + "WHERE id = ? AND user_id = ? AND version = COALESCE(?, version)";
+    private static final String DELETE_OWNED = "DELETE FROM books WHERE id = ? AND user_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public OwnedBookWritesImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public int updateOwned(Long id, Long userId, BookDto book, String cover, LocalDateTime now) {
+        lockCachedBook(id);
+        int updated = jdbcTemplate.update(UPDATE_OWNED,
+            book.getTitle(), book.getAuthor(), book.getPublisher(), book.getReadDate(),
+            book.getDescription(), book.getReview(), book.getBeforeThoughts(), book.getAfterThoughts(),
+            new SqlParameterValue(Types.BOOLEAN, book.getIsPublic()),
+            new SqlParameterValue(Types.VARCHAR, cover),
+            now, id, userId,
+            new SqlParameterValue(Types.BIGINT, book.getVersion()));
+        if (updated > 0) {
+            invalidateListQueries();
+        }
+        return updated;
+    }
+
+    @Override
+    public int deleteOwned(Long id, Long userId) {
+        lockCachedBook(id);
+        int deleted = jdbcTemplate.update(DELETE_OWNED, id, userId);
+        if (deleted > 0) {
+            invalidateListQueries();
+        }
+        return deleted;
+    }
+
+    // 쓰기가 거절되어도 잠근다 - 캐시된 값이 다른 노드의 수정으로 오래되어 버전이 맞지 않았을 수 있다
+    private void lockCachedBook(Long id) {
+        SharedSessionContractImplementor session = session();
+        SessionFactoryImplementor factory = session.getFactory();
+        EntityPersister persister = factory.getMappingMetamodel().getEntityDescriptor(Book.class);
+        EntityDataAccess access = persister.getCacheAccessStrategy();
+        if (access == null) {
+            return;
+        }
+        Object key = access.generateCacheKey(id, persister, factory, session.getTenantIdentifier());
+        access.lockItem(session, key, null);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                access.evict(key);
+            }
+        });
+    }
+
+    // 커밋 전에는 책 목록 쿼리 결과를 쓰지도 채우지도 않고, 커밋 뒤에는 그 이전 결과를 버린다
+    private void invalidateListQueries() {
+        SharedSessionContractImplementor session = session();
+        TimestampsCache timestamps = session.getFactory().getCache().getTimestampsCache();
+        String[] spaces = session.getFactory().getMappingMetamodel().getEntityDescriptor(Book.class).getPropertySpaces();
+        timestamps.preInvalidate(spaces, session);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                timestamps.invalidate(spaces, session);
+            }
+        });
+    }
+
+    private SharedSessionContractImplementor session() {
+        return entityManager.unwrap(SharedSessionContractImplementor.class);
+    }
+}
@@ -0,0 +1,81 @@
+package com.booklog.booklog_backend.search;
+
+import com.booklog.booklog_backend.event.BookChangedEvent;
+import com.booklog.booklog_backend.event.BookProjection;
+import com.booklog.booklog_backend.event.BookSnapshot;
+import com.booklog.booklog_backend.repository.BookRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 책 검색을 위한 메모리 역색인.
+ * 제목, 저자, 출판사, 독후감을 색인하며 책이 변경될 때마다 커밋 이후 증분 갱신된다.
+ * 한글은 자모 단위로 색인해 입력 중인 음절도 접두어로 찾고, 제목과 저자는 초성으로도 찾을 수 있다.
+ * 단어 중간 일치(띄어 쓰지 않은 복합어 "해리포터" 의 "포터")도 예전 LIKE 검색처럼 찾는다.
+ * 시작 시와 주기적으로 books 에서 다시 만들어 다른 노드에서 일어난 변경을 반영한다.
+ * 처음 만들어지기 전에는 {@link #isReady()} 가 false 이고 호출자는 LIKE 검색으로 대체한다.
+ */
+@Component
+public class BookSearchIndex {
+    private final BookProjection<Map<Long, UserSearchIndex>, BookSnapshot> projection;
+    private volatile boolean ready = false;
+
+    public BookSearchIndex(BookRepository bookRepository) {
+        this.projection = new BookProjection<>("검색 색인",
+            ConcurrentHashMap::new,
+            bookRepository::findSnapshotsAfter,
+            BookSnapshot::id,
+            (indexes, book) -> indexes.computeIfAbsent(book.userId(), id -> new UserSearchIndex()).put(book),
+            BookSearchIndex::apply);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        projection.rebuild();
+        ready = true;
+    }
+
+    @Scheduled(initialDelayString = "${search.refresh-interval}",
+               fixedDelayString = "${search.refresh-interval}")
+    public void refresh() {
+        rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        projection.apply(event);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public SearchHits search(Long userId, String query, SearchOrder order, int page, int size) {
+        List<String> tokens = SearchTokenizer.tokenize(query).stream()
+            .map(SearchTokenizer::queryTerm)
+            .toList();
+        UserSearchIndex index = projection.current().get(userId);
+        if (tokens.isEmpty() || index == null) {
+            return new SearchHits(List.of(), 0);
+        }
+        return index.search(tokens, order, page, size);
+    }
+
+    private static void apply(Map<Long, UserSearchIndex> indexes, BookChangedEvent event) {
+        if (event.isDeleted()) {
+            UserSearchIndex index = indexes.get(event.userId());
+            if (index != null) {
+                index.remove(event.bookId());
+            }
+        } else {
+            indexes.computeIfAbsent(event.userId(), id -> new UserSearchIndex()).put(event.book());
+        }
+    }
+}
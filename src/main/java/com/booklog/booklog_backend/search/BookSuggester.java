@@ -0,0 +1,102 @@
+package com.booklog.booklog_backend.search;
+
+import com.booklog.booklog_backend.dto.SuggestionDto;
+import com.booklog.booklog_backend.event.BookChangedEvent;
+import com.booklog.booklog_backend.event.BookProjection;
+import com.booklog.booklog_backend.repository.BookRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 검색창 자동 완성. 사용자별 색인과 모든 사용자의 공개 책 색인을 메모리에 두고 DB 를 조회하지 않는다.
+ * 공개 여부가 바뀐 책은 공개 색인에 넣거나 빼고, 삭제된 책은 두 색인에서 모두 뺀다.
+ * 시작 시와 주기적으로 books 에서 다시 만들어 다른 노드에서 일어난 변경을 반영한다.
+ */
+@Component
+public class BookSuggester {
+    private final int maxResults;
+    private final int maxScan;
+    private final BookProjection<Indexes, SuggestEntry> projection;
+
+    private record Indexes(Map<Long, SuggestionIndex> users, SuggestionIndex publicBooks) {
+    }
+
+    public BookSuggester(BookRepository bookRepository,
+                         @Value("${suggest.max-results}") int maxResults,
+                         @Value("${suggest.max-scan}") int maxScan) {
+        this.maxResults = maxResults;
+        this.maxScan = maxScan;
+        this.projection = new BookProjection<>("자동 완성 색인",
+            () -> new Indexes(new ConcurrentHashMap<>(), newIndex()),
+            bookRepository::findSuggestEntriesAfter,
+            SuggestEntry::id,
+            this::put,
+            this::apply);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        projection.rebuild();
+    }
+
+    @Scheduled(initialDelayString = "${suggest.refresh-interval}",
+               fixedDelayString = "${suggest.refresh-interval}")
+    public void refresh() {
+        rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        projection.apply(event);
+    }
+
+    /**
+     * 입력한 접두어로 시작하는 제목/저자/출판사를 책 수가 많은 순으로 반환한다.
+     * publicScope 이면 내 책 대신 모든 사용자의 공개 책에서 찾는다.
+     */
+    public List<SuggestionDto> suggest(Long userId, String query, boolean publicScope, int size) {
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        Indexes current = projection.current();
+        SuggestionIndex index = publicScope ? current.publicBooks() : current.users().get(userId);
+        if (index == null) {
+            return List.of();
+        }
+        int limit = Math.max(1, Math.min(size, maxResults));
+        return index.suggest(SuggestionIndex.queryKey(query), limit);
+    }
+
+    private void apply(Indexes target, BookChangedEvent event) {
+        if (event.isDeleted()) {
+            SuggestionIndex index = target.users().get(event.userId());
+            if (index != null) {
+                index.remove(event.bookId());
+            }
+            target.publicBooks().remove(event.bookId());
+        } else {
+            put(target, SuggestEntry.of(event));
+        }
+    }
+
+    private void put(Indexes target, SuggestEntry book) {
+        target.users().computeIfAbsent(book.userId(), id -> newIndex()).put(book);
+        if (Boolean.TRUE.equals(book.isPublic())) {
+            target.publicBooks().put(book);
+        } else {
+            target.publicBooks().remove(book.id());
+        }
+    }
+
+    private SuggestionIndex newIndex() {
+        return new SuggestionIndex(maxScan);
+    }
+}
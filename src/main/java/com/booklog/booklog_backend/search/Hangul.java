@@ -0,0 +1,114 @@
+package com.booklog.booklog_backend.search;
+
+import java.text.Normalizer;
+
+/**
+ * 한글 음절을 자모로 풀어 쓰는 유틸리티.
+ * 입력 중인 음절("한구" -> "한국")도 접두어로 일치하도록 겹모음/겹받침까지 기본 자모로 나누고,
+ * 초성 검색("ㅎㄹㅍㅌ")을 위해 음절의 초성만 뽑는다. 한글이 아닌 문자는 그대로 둔다.
+ */
+final class Hangul {
+    private static final char SYLLABLE_BASE = '가';
+    private static final char SYLLABLE_LAST = '힣';
+    private static final int MEDIAL_COUNT = 21;
+    private static final int FINAL_COUNT = 28;
+
+    private static final String[] INITIALS = {
+        "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ",
+        "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+    // 겹모음은 자판에서 두 번 눌러 입력하므로 나눠 둔다 (ㅘ = ㅗ + ㅏ)
+    private static final String[] MEDIALS = {
+        "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+        "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ",
+        "ㅣ"
+    };
+    // 겹받침도 같은 이유로 나눈다 (ㄺ = ㄹ + ㄱ). 된소리(ㄲ, ㅆ)는 한 번에 입력하므로 그대로 둔다.
+    private static final String[] FINALS = {
+        "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+        "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+        "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    // 홀로 입력된 겹자모 (호환 자모 ㄳ, ㅘ 등)
+    private static final String COMPOUND_JAMO = "ㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄㅘㅙㅚㅝㅞㅟㅢ";
+    private static final String[] COMPOUND_JAMO_PARTS = {
+        "ㄱㅅ", "ㄴㅈ", "ㄴㅎ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅂㅅ",
+        "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅡㅣ"
+    };
+
+    private Hangul() {
+    }
+
+    /**
+     * 음절을 기본 자모로 풀어 쓴다. "닭" -> "ㄷㅏㄹㄱ", "book" -> "book"
+     */
+    static String decompose(String text) {
+        String normalized = compose(text);
+        StringBuilder jamo = new StringBuilder(normalized.length() * 3);
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (isSyllable(c)) {
+                int index = c - SYLLABLE_BASE;
+                jamo.append(INITIALS[index / (MEDIAL_COUNT * FINAL_COUNT)]);
+                jamo.append(MEDIALS[index % (MEDIAL_COUNT * FINAL_COUNT) / FINAL_COUNT]);
+                jamo.append(FINALS[index % FINAL_COUNT]);
+            } else {
+                int compound = COMPOUND_JAMO.indexOf(c);
+                if (compound >= 0) {
+                    jamo.append(COMPOUND_JAMO_PARTS[compound]);
+                } else {
+                    jamo.append(c);
+                }
+            }
+        }
+        return jamo.toString();
+    }
+
+    /**
+     * 음절의 초성만 이어 붙인다. 한글이 아닌 문자는 그대로 둔다. "해리포터" -> "ㅎㄹㅍㅌ"
+     */
+    static String initials(String text) {
+        String normalized = compose(text);
+        StringBuilder initials = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            initials.append(isSyllable(c) ? INITIALS[(c - SYLLABLE_BASE) / (MEDIAL_COUNT * FINAL_COUNT)] : String.valueOf(c));
+        }
+        return initials.toString();
+    }
+
+    static boolean containsSyllable(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (isSyllable(text.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 자음(호환 자모 ㄱ~ㅎ)으로만 이루어졌으면 초성 검색어로 본다.
+     */
+    static boolean isInitialsOnly(String text) {
+        if (text.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 'ㄱ' || c > 'ㅎ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BASE && c <= SYLLABLE_LAST;
+    }
+
+    // macOS 등에서 풀어 쓴(NFD) 자모로 들어온 입력을 음절로 모은다
+    static String compose(String text) {
+        return Normalizer.isNormalized(text, Normalizer.Form.NFC) ? text : Normalizer.normalize(text, Normalizer.Form.NFC);
+    }
+}
@@ -0,0 +1,9 @@
+package com.booklog.booklog_backend.search;
+
+import java.util.List;
+
+/**
+ * 검색 결과 한 페이지. ids 는 점수 순으로 정렬되어 있다.
+ */
+public record SearchHits(List<Long> ids, long total) {
+}
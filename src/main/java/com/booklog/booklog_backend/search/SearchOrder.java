@@ -0,0 +1,23 @@
+package com.booklog.booklog_backend.search;
+
+/**
+ * 검색 결과 정렬 기준. 목록 조회의 sortBy 값을 그대로 받고, 알 수 없는 값은 최신 등록순으로 본다.
+ */
+public enum SearchOrder {
+    RELEVANCE,
+    DATE,
+    TITLE,
+    AUTHOR;
+
+    public static SearchOrder of(String sortBy) {
+        if (sortBy == null) {
+            return DATE;
+        }
+        return switch (sortBy) {
+            case "relevance" -> RELEVANCE;
+            case "title" -> TITLE;
+            case "author" -> AUTHOR;
+            default -> DATE;
+        };
+    }
+}
@@ -0,0 +1,89 @@
+package com.booklog.booklog_backend.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색용 토크나이저. 문자/숫자가 아닌 문자를 기준으로 나누고 소문자로 정규화한다.
+ * 색인 용어는 한글을 자모로 풀어 쓴 형태이고, 초성 용어는 앞에 {@link #INITIALS_PREFIX},
+ * 단어 중간 일치용 접미어 용어는 앞에 {@link #INFIX_PREFIX} 를 붙여 구분한다.
+ */
+final class SearchTokenizer {
+    // 토큰에는 문자/숫자만 들어가므로 일반 용어와 겹치지 않는다
+    static final String INITIALS_PREFIX = "^";
+    static final String INFIX_PREFIX = "~";
+    // 이보다 긴 단어는 접미어를 만들지 않는다 (접미어 수가 길이에 비례해 늘어난다)
+    static final int MAX_INFIX_TOKEN_LENGTH = 20;
+
+    private SearchTokenizer() {
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        StringBuilder current = new StringBuilder();
+        for (int i = 0; i < text.length(); ) {
+            int codePoint = text.codePointAt(i);
+            if (Character.isLetterOrDigit(codePoint)) {
+                current.appendCodePoint(codePoint);
+            } else if (current.length() > 0) {
+                tokens.add(current.toString().toLowerCase(Locale.ROOT));
+                current.setLength(0);
+            }
+            i += Character.charCount(codePoint);
+        }
+        if (current.length() > 0) {
+            tokens.add(current.toString().toLowerCase(Locale.ROOT));
+        }
+        return tokens;
+    }
+
+    // 한글은 자모로 풀어 써서 입력 중인 음절("한구")도 접두어로 일치하게 한다
+    static String term(String token) {
+        return Hangul.decompose(token);
+    }
+
+    // 자음으로만 이루어진 검색어("ㅎㄹㅍㅌ")는 초성 용어에서 찾는다
+    static String queryTerm(String token) {
+        return Hangul.isInitialsOnly(token) ? INITIALS_PREFIX + token : term(token);
+    }
+
+    /**
+     * 초성 용어 - 한글이 들어 있는 단어마다 만들고, 여러 단어면 띄어쓰기 없이 이어 쓴 전체로도 만든다.
+     * "해리 포터" -> ^ㅎㄹ, ^ㅍㅌ, ^ㅎㄹㅍㅌ
+     */
+    static List<String> initialTerms(String text) {
+        List<String> tokens = tokenize(text);
+        List<String> terms = new ArrayList<>();
+        for (String token : tokens) {
+            if (Hangul.containsSyllable(token)) {
+                terms.add(INITIALS_PREFIX + Hangul.initials(token));
+            }
+        }
+        if (tokens.size() > 1 && !terms.isEmpty()) {
+            terms.add(INITIALS_PREFIX + Hangul.initials(String.join("", tokens)));
+        }
+        return terms;
+    }
+
+    /**
+     * 단어 중간 일치용 접미어 용어 - 둘째 글자부터 시작하는 접미어마다 만든다.
+     * 띄어 쓰지 않은 복합어 안의 단어도 찾게 한다. "해리포터" -> ~(리포터), ~(포터), ~(터)
+     */
+    static List<String> infixTerms(String text) {
+        List<String> terms = new ArrayList<>();
+        String token = Hangul.compose(text);
+        int length = token.codePointCount(0, token.length());
+        if (length < 2 || length > MAX_INFIX_TOKEN_LENGTH) {
+            return terms;
+        }
+        for (int i = token.offsetByCodePoints(0, 1); i < token.length(); i = token.offsetByCodePoints(i, 1)) {
+            terms.add(INFIX_PREFIX + term(token.substring(i)));
+        }
+        return terms;
+    }
+}
@@ -0,0 +1,27 @@
+package com.booklog.booklog_backend.search;
+
+import com.booklog.booklog_backend.event.BookChangedEvent;
+
+/**
+ * 자동 완성에 쓰이는 책의 필드만 담은 프로젝션.
+ * 수정/삭제 시 이전 값을 빼기 위해 책마다 보관된다.
+ */
+public record SuggestEntry(
+        Long id,
+        Long userId,
+        String title,
+        String author,
+        String publisher,
+        Boolean isPublic) {
+
+    public static SuggestEntry of(BookChangedEvent event) {
+        return new SuggestEntry(
+            event.bookId(),
+            event.userId(),
+            event.book().title(),
+            event.book().author(),
+            event.book().publisher(),
+            event.summary().isPublic()
+        );
+    }
+}
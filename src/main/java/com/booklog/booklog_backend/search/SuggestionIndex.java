@@ -0,0 +1,217 @@
+package com.booklog.booklog_backend.search;
+
+import com.booklog.booklog_backend.dto.SuggestionDto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 제목/저자/출판사 값의 자동 완성 색인.
+ * 같은 값을 가진 책 수를 세고, 접두어 키 -> 값 정렬 맵에서 입력한 접두어로 시작하는 값을 찾는다.
+ * 값의 처음뿐 아니라 각 단어의 시작부터도 키를 만들어 "포터" 로 "해리 포터" 를 찾을 수 있고,
+ * 한글은 자모로 풀어 입력 중인 음절과 초성으로도 찾는다.
+ * 후보가 가장 많은 짧은 접두어는 값을 책 수 순으로 정렬해 두고 책이 바뀔 때마다 고치므로 훑지 않고 앞에서 꺼낸다.
+ * 더 긴 접두어는 maxScan 개의 키까지만 살펴보므로, 어느 쪽이든 응답 시간은 색인 크기와 무관하다.
+ */
+class SuggestionIndex {
+    // 아주 긴 제목이 키를 부풀리지 않게 자른다 - 이보다 긴 입력은 앞부분만 비교한다
+    private static final int MAX_KEY_LENGTH = 48;
+    // 이 길이 이하의 접두어(자모 단위, 한글 한두 음절)는 정렬된 값 목록을 유지한다
+    private static final int RANKED_PREFIX_LENGTH = 3;
+
+    private record Value(String field, String text) {
+    }
+
+    private final NavigableMap<String, Set<Value>> keys = new TreeMap<>();
+    private final Map<Value, Integer> counts = new HashMap<>();
+    private final Map<Long, List<Value>> books = new HashMap<>();
+    // 짧은 접두어 -> 그 접두어로 시작하는 모든 값(책 수 순). 책 수가 바뀌는 값은 빼고 바꾼 뒤 다시 넣는다
+    private final Map<String, NavigableSet<Value>> ranked = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Comparator<Value> mostFrequentFirst = Comparator.<Value, Integer>comparing(counts::get).reversed()
+        .thenComparing(value -> value.text().length())
+        .thenComparing(Value::text)
+        .thenComparing(Value::field);
+
+    private final int maxScan;
+
+    /**
+     * @param maxScan 긴 접두어에서 살펴볼 최대 키 수
+     */
+    SuggestionIndex(int maxScan) {
+        this.maxScan = maxScan;
+    }
+
+    void put(SuggestEntry book) {
+        List<Value> values = new ArrayList<>(3);
+        addValue(values, "title", book.title());
+        addValue(values, "author", book.author());
+        addValue(values, "publisher", book.publisher());
+
+        lock.writeLock().lock();
+        try {
+            List<Value> previous = Objects.requireNonNullElse(books.put(book.id(), values), List.of());
+            previous.stream().filter(value -> !values.contains(value)).forEach(value -> change(value, -1));
+            values.stream().filter(value -> !previous.contains(value)).forEach(value -> change(value, 1));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(Long bookId) {
+        lock.writeLock().lock();
+        try {
+            List<Value> values = books.remove(bookId);
+            if (values != null) {
+                values.forEach(value -> change(value, -1));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 접두어로 시작하는 값을 책 수가 많은 순으로 최대 limit 개 반환한다.
+     * 짧은 접두어는 정렬해 둔 목록의 앞에서 꺼내고, 긴 접두어는 maxScan 개의 키 안에서 고른다.
+     */
+    List<SuggestionDto> suggest(String prefix, int limit) {
+        lock.readLock().lock();
+        try {
+            Iterable<Value> candidates = prefix.length() <= RANKED_PREFIX_LENGTH
+                ? ranked.getOrDefault(prefix, Collections.emptyNavigableSet())
+                : scan(prefix);
+            List<SuggestionDto> result = new ArrayList<>(limit);
+            for (Value value : candidates) {
+                if (result.size() == limit) {
+                    break;
+                }
+                result.add(new SuggestionDto(value.field(), value.text(), counts.get(value)));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어를 색인 키와 같은 형태로 바꾼다. 자음으로만 이루어졌으면 초성 키로 찾는다.
+     */
+    static String queryKey(String query) {
+        String normalized = normalize(query);
+        String compact = normalized.replace(" ", "");
+        if (Hangul.isInitialsOnly(compact)) {
+            return truncate(SearchTokenizer.INITIALS_PREFIX + compact);
+        }
+        return truncate(Hangul.decompose(normalized));
+    }
+
+    private List<Value> scan(String prefix) {
+        Set<Value> matched = new HashSet<>();
+        int scanned = 0;
+        for (Map.Entry<String, Set<Value>> entry : keys.tailMap(prefix, true).entrySet()) {
+            if (!entry.getKey().startsWith(prefix) || scanned++ >= maxScan) {
+                break;
+            }
+            matched.addAll(entry.getValue());
+        }
+        return matched.stream().sorted(mostFrequentFirst).toList();
+    }
+
+    // 값의 책 수를 delta 만큼 바꾼다. 처음 생기면 키를 만들고, 마지막 책이 빠지면 키에서도 지운다
+    private void change(Value value, int delta) {
+        Set<String> valueKeys = keysOf(value.text());
+        Set<String> shortPrefixes = shortPrefixes(valueKeys);
+        boolean existed = counts.containsKey(value);
+        // 정렬 기준(책 수)이 바뀌므로 바꾸기 전에 뺀다
+        if (existed) {
+            for (String prefix : shortPrefixes) {
+                NavigableSet<Value> values = ranked.get(prefix);
+                values.remove(value);
+                if (values.isEmpty()) {
+                    ranked.remove(prefix);
+                }
+            }
+        }
+        Integer count = counts.merge(value, delta, (a, b) -> a + b == 0 ? null : a + b);
+        if (count == null) {
+            for (String key : valueKeys) {
+                Set<Value> posting = keys.get(key);
+                if (posting != null) {
+                    posting.remove(value);
+                    if (posting.isEmpty()) {
+                        keys.remove(key);
+                    }
+                }
+            }
+            return;
+        }
+        if (!existed) {
+            for (String key : valueKeys) {
+                keys.computeIfAbsent(key, k -> new HashSet<>()).add(value);
+            }
+        }
+        for (String prefix : shortPrefixes) {
+            ranked.computeIfAbsent(prefix, p -> new TreeSet<>(mostFrequentFirst)).add(value);
+        }
+    }
+
+    private static Set<String> shortPrefixes(Set<String> keys) {
+        Set<String> prefixes = new HashSet<>();
+        for (String key : keys) {
+            for (int end = 1; end <= Math.min(RANKED_PREFIX_LENGTH, key.length()); end++) {
+                prefixes.add(key.substring(0, end));
+            }
+        }
+        return prefixes;
+    }
+
+    // 값의 처음과 각 단어의 시작부터 자모 키를, 한글이 있으면 같은 위치부터 초성 키를 만든다
+    private static Set<String> keysOf(String text) {
+        String normalized = normalize(text);
+        boolean hangul = Hangul.containsSyllable(normalized);
+        Set<String> keys = new LinkedHashSet<>();
+        for (int i = 0; i < normalized.length(); i++) {
+            boolean wordStart = Character.isLetterOrDigit(normalized.charAt(i))
+                && (i == 0 || !Character.isLetterOrDigit(normalized.charAt(i - 1)));
+            if (i == 0 || wordStart) {
+                String rest = normalized.substring(i);
+                keys.add(truncate(Hangul.decompose(rest)));
+                if (hangul) {
+                    keys.add(truncate(SearchTokenizer.INITIALS_PREFIX
+                        + Hangul.initials(String.join("", SearchTokenizer.tokenize(rest)))));
+                }
+            }
+        }
+        return keys;
+    }
+
+    private static void addValue(List<Value> values, String field, String text) {
+        if (text != null && !text.isBlank()) {
+            values.add(new Value(field, text.trim()));
+        }
+    }
+
+    private static String normalize(String text) {
+        return text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private static String truncate(String key) {
+        return key.length() <= MAX_KEY_LENGTH ? key : key.substring(0, MAX_KEY_LENGTH);
+    }
+}
@@ -0,0 +1,188 @@
+package com.booklog.booklog_backend.search;
+
+import com.booklog.booklog_backend.event.BookSnapshot;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * 한 사용자의 책에 대한 역색인.
+ * 용어 -> (책 ID -> 가중치) 포스팅과, 삭제/수정과 정렬에 쓸 책 ID -> 문서(용어 목록, 제목, 저자)를 함께 유지한다.
+ */
+class UserSearchIndex {
+    private static final float TITLE_WEIGHT = 4.0f;
+    private static final float AUTHOR_WEIGHT = 3.0f;
+    private static final float PUBLISHER_WEIGHT = 2.0f;
+    private static final float REVIEW_WEIGHT = 1.0f;
+
+    // 입력 중인 단어(접두어)로만 일치한 경우의 감점
+    private static final float PREFIX_PENALTY = 0.5f;
+    // 단어 중간에서 일치한 경우의 감점
+    private static final float INFIX_PENALTY = 0.25f;
+
+    private static final Comparator<String> NULLS_FIRST = Comparator.nullsFirst(Comparator.naturalOrder());
+
+    private final NavigableMap<String, Map<Long, Float>> postings = new TreeMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    void put(BookSnapshot book) {
+        Map<String, Float> terms = new HashMap<>();
+        addField(terms, book.title(), TITLE_WEIGHT);
+        addInitials(terms, book.title(), TITLE_WEIGHT);
+        addField(terms, book.author(), AUTHOR_WEIGHT);
+        addInitials(terms, book.author(), AUTHOR_WEIGHT);
+        addField(terms, book.publisher(), PUBLISHER_WEIGHT);
+        addField(terms, book.review(), REVIEW_WEIGHT);
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(book.id());
+            documents.put(book.id(), new Document(terms, book.title(), book.author(), book.createdAt()));
+            terms.forEach((term, weight) ->
+                postings.computeIfAbsent(term, t -> new HashMap<>()).put(book.id(), weight));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(Long bookId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(bookId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 모든 검색어 토큰과 일치하는 책만 반환한다. 관련도순이면 점수 순, 그 밖에는 order 기준으로 정렬한다.
+     * 각 토큰은 완전 일치, 접두어 일치, 단어 중간 일치 순으로 점수가 낮아진다.
+     */
+    SearchHits search(List<String> queryTokens, SearchOrder order, int page, int size) {
+        Map<Long, Float> scores = null;
+        List<Long> ranked;
+
+        lock.readLock().lock();
+        try {
+            int documentCount = documents.size();
+            for (String token : queryTokens) {
+                Map<Long, Float> tokenScores = new HashMap<>();
+                collect(token, 1.0f, documentCount, tokenScores);
+                if (!token.startsWith(SearchTokenizer.INITIALS_PREFIX)) {
+                    collect(SearchTokenizer.INFIX_PREFIX + token, INFIX_PENALTY, documentCount, tokenScores);
+                }
+
+                if (scores == null) {
+                    scores = tokenScores;
+                } else {
+                    scores.keySet().retainAll(tokenScores.keySet());
+                    for (Map.Entry<Long, Float> entry : scores.entrySet()) {
+                        entry.setValue(entry.getValue() + tokenScores.get(entry.getKey()));
+                    }
+                }
+                if (scores.isEmpty()) {
+                    break;
+                }
+            }
+
+            if (scores == null || scores.isEmpty()) {
+                return new SearchHits(List.of(), 0);
+            }
+            // 제목/저자순 정렬도 문서를 읽으므로 같은 읽기 락 안에서 한다
+            ranked = new ArrayList<>(scores.keySet());
+            ranked.sort(comparator(order, scores));
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // 아주 큰 페이지 번호도 넘치지 않게 long 으로 계산한다
+        int from = (int) Math.min((long) page * size, ranked.size());
+        int to = (int) Math.min((long) from + size, ranked.size());
+        return new SearchHits(new ArrayList<>(ranked.subList(from, to)), ranked.size());
+    }
+
+    // prefix 로 시작하는 용어의 포스팅을 모아 책별 최고 점수를 남긴다. 완전 일치가 아니면 접두어 감점을 더한다
+    private void collect(String prefix, float penalty, int documentCount, Map<Long, Float> tokenScores) {
+        for (Map.Entry<String, Map<Long, Float>> entry : postings.tailMap(prefix, true).entrySet()) {
+            String term = entry.getKey();
+            if (!term.startsWith(prefix)) {
+                break;
+            }
+            Map<Long, Float> posting = entry.getValue();
+            float idf = (float) Math.log(1.0 + (double) documentCount / posting.size());
+            float factor = (term.equals(prefix) ? idf : idf * PREFIX_PENALTY) * penalty;
+            posting.forEach((bookId, weight) ->
+                tokenScores.merge(bookId, weight * factor, Math::max));
+        }
+    }
+
+    // 동순위는 최신 등록 먼저. ID 는 노드마다 미리 할당받은 구간에서 나오므로 등록 순서와 다를 수 있어
+    // 생성 시각으로 비교하고, 같은 시각이면 큰 ID 먼저
+    private Comparator<Long> comparator(SearchOrder order, Map<Long, Float> scores) {
+        Comparator<Long> newestFirst = Comparator.<Long, LocalDateTime>comparing(id -> documents.get(id).createdAt(),
+                Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(Comparator.naturalOrder())
+            .reversed();
+        return switch (order) {
+            case RELEVANCE -> Comparator.<Long, Float>comparing(scores::get).reversed().thenComparing(newestFirst);
+            case TITLE -> Comparator.<Long, String>comparing(id -> sortKey(id, Document::title), NULLS_FIRST)
+                .thenComparing(newestFirst);
+            case AUTHOR -> Comparator.<Long, String>comparing(id -> sortKey(id, Document::author), NULLS_FIRST)
+                .thenComparing(newestFirst);
+            case DATE -> newestFirst;
+        };
+    }
+
+    private String sortKey(Long bookId, Function<Document, String> field) {
+        return field.apply(documents.get(bookId));
+    }
+
+    private void removeInternal(Long bookId) {
+        Document document = documents.remove(bookId);
+        if (document == null) {
+            return;
+        }
+        for (String term : document.terms().keySet()) {
+            Map<Long, Float> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(bookId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    // 필드 내 반복 등장은 로그 스케일로 반영해 긴 독후감이 점수를 독점하지 않게 한다
+    private static void addField(Map<String, Float> terms, String text, float fieldWeight) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String token : SearchTokenizer.tokenize(text)) {
+            frequencies.merge(SearchTokenizer.term(token), 1, Integer::sum);
+            for (String infix : SearchTokenizer.infixTerms(token)) {
+                terms.merge(infix, fieldWeight, Math::max);
+            }
+        }
+        frequencies.forEach((term, tf) ->
+            terms.merge(term, fieldWeight * (1.0f + (float) Math.log(tf)), Float::sum));
+    }
+
+    // 초성 검색은 제목과 저자만 대상으로 한다
+    private static void addInitials(Map<String, Float> terms, String text, float fieldWeight) {
+        for (String term : SearchTokenizer.initialTerms(text)) {
+            terms.merge(term, fieldWeight, Math::max);
+        }
+    }
+
+    private record Document(Map<String, Float> terms, String title, String author, LocalDateTime createdAt) {
+    }
+}
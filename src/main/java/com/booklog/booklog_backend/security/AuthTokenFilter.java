@@ -9,29 +9,30 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class AuthTokenFilter extends OncePerRequestFilter {
     private final JwtUtils jwtUtils;
-    private final UserDetailsService userDetailsService;
+    private final UserDetailsServiceImpl userDetailsService;
+    private final PrincipalCache principalCache;
     
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, 
                                   FilterChain filterChain) throws ServletException, IOException {
         try {
             String jwt = parseJwt(request);
-            if (jwt != null && jwtUtils.validateJwtToken(jwt)) {
-                String username = jwtUtils.getUserNameFromJwtToken(jwt);
-                
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            Optional<JwtClaims> claims = jwt != null ? jwtUtils.verify(jwt) : Optional.empty();
+            if (claims.isPresent()) {
+                UserDetails userDetails = resolvePrincipal(claims.get());
                 UsernamePasswordAuthenticationToken authentication = 
                     new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -45,6 +46,17 @@ public class AuthTokenFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
     
+    // uid 클레임이 있으면 사용자 ID 로, 이전에 발급된 토큰은 이메일로 캐시를 거쳐 찾는다.
+    // 삭제되었거나 이메일이 바뀐 사용자의 토큰은 인증하지 않는다 (사용자 변경 시 캐시가 무효화된다)
+    private UserDetails resolvePrincipal(JwtClaims claims) {
+        if (claims.userId() != null) {
+            return principalCache.getById(claims.userId(), userDetailsService::loadUserById)
+                .filter(principal -> principal.getUsername().equals(claims.email()))
+                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + claims.userId()));
+        }
+        return principalCache.getByEmail(claims.email(), userDetailsService::loadUserByUsername);
+    }
+    
     private String parseJwt(HttpServletRequest request) {
         String headerAuth = request.getHeader("Authorization");
         
@@ -0,0 +1,10 @@
+package com.booklog.booklog_backend.security;
+
+import java.time.Instant;
+
+/**
+ * 검증이 끝난 JWT 의 클레임.
+ * userId 는 uid 클레임이 없는 이전 토큰에서는 null 이다.
+ */
+public record JwtClaims(Long userId, String email, Instant expiresAt) {
+}
@@ -1,53 +1,115 @@
 package com.booklog.booklog_backend.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Optional;
 
 @Component
 @Slf4j
 public class JwtUtils {
+    private static final String USER_ID_CLAIM = "uid";
+    
     @Value("${jwt.secret}")
     private String jwtSecret;
     
     @Value("${jwt.expiration}")
     private int jwtExpirationMs;
     
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+    @Value("${jwt.verified-cache.maximum-size}")
+    private long verifiedCacheSize;
+    
+    private Key signingKey;
+    private JwtParser parser;
+    
+    // 이미 검증한 토큰의 해시 -> 클레임. 각 항목은 토큰 만료 시각에 함께 만료된다.
+    private Cache<String, JwtClaims> verifiedTokens;
+    
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        verifiedTokens = Caffeine.newBuilder()
+            .maximumSize(verifiedCacheSize)
+            .expireAfter(new Expiry<String, JwtClaims>() {
+                @Override
+                public long expireAfterCreate(String key, JwtClaims claims, long currentTime) {
+                    return Math.max(0, Duration.between(Instant.now(), claims.expiresAt()).toNanos());
+                }
+                
+                @Override
+                public long expireAfterUpdate(String key, JwtClaims claims, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+                
+                @Override
+                public long expireAfterRead(String key, JwtClaims claims, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
     }
     
     public String generateJwtToken(Authentication authentication) {
         UserDetails userPrincipal = (UserDetails) authentication.getPrincipal();
         
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
             .setSubject(userPrincipal.getUsername())
             .setIssuedAt(new Date())
-            .setExpiration(new Date((new Date()).getTime() + jwtExpirationMs))
-            .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+            .setExpiration(new Date((new Date()).getTime() + jwtExpirationMs));
+        if (userPrincipal instanceof UserDetailsImpl impl) {
+            builder.claim(USER_ID_CLAIM, impl.getId());
+        }
+        return builder
+            .signWith(signingKey, SignatureAlgorithm.HS256)
             .compact();
     }
     
-    public String getUserNameFromJwtToken(String token) {
-        return Jwts.parserBuilder()
-            .setSigningKey(getSigningKey())
-            .build()
-            .parseClaimsJws(token)
-            .getBody()
-            .getSubject();
-    }
-    
-    public boolean validateJwtToken(String authToken) {
+    /**
+     * 토큰을 한 번만 파싱/서명 검증하고 클레임을 반환한다.
+     * 같은 토큰이 다시 오면 캐시된 클레임을 돌려주어 HMAC 계산을 건너뛴다.
+     */
+    public Optional<JwtClaims> verify(String token) {
+        if (token == null || token.isEmpty()) {
+            log.error("JWT claims string is empty");
+            return Optional.empty();
+        }
+        
+        String tokenHash = hash(token);
+        JwtClaims cached = verifiedTokens.getIfPresent(tokenHash);
+        if (cached != null) {
+            if (cached.expiresAt().isAfter(Instant.now())) {
+                return Optional.of(cached);
+            }
+            verifiedTokens.invalidate(tokenHash);
+        }
+        
         try {
-            Jwts.parserBuilder().setSigningKey(getSigningKey()).build().parseClaimsJws(authToken);
-            return true;
+            Claims body = parser.parseClaimsJws(token).getBody();
+            JwtClaims claims = new JwtClaims(
+                body.get(USER_ID_CLAIM, Long.class),
+                body.getSubject(),
+                body.getExpiration().toInstant()
+            );
+            verifiedTokens.put(tokenHash, claims);
+            return Optional.of(claims);
         } catch (MalformedJwtException e) {
             log.error("Invalid JWT token: {}", e.getMessage());
         } catch (ExpiredJwtException e) {
@@ -56,8 +118,29 @@ public class JwtUtils {
             log.error("JWT token is unsupported: {}", e.getMessage());
         } catch (IllegalArgumentException e) {
             log.error("JWT claims string is empty: {}", e.getMessage());
+        } catch (JwtException e) {
+            log.error("JWT signature is invalid: {}", e.getMessage());
         }
         
-        return false;
+        return Optional.empty();
+    }
+    
+    public String getUserNameFromJwtToken(String token) {
+        return verify(token)
+            .map(JwtClaims::email)
+            .orElseThrow(() -> new JwtException("Invalid JWT token"));
+    }
+    
+    public boolean validateJwtToken(String authToken) {
+        return verify(authToken).isPresent();
+    }
+    
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
-}
\ No newline at end of file
+}
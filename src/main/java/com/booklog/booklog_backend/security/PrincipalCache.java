@@ -0,0 +1,110 @@
+package com.booklog.booklog_backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 인증된 사용자 정보 캐시.
+ * JWT 검증이 끝난 요청마다 DB 에서 사용자를 다시 읽지 않도록 사용자 ID 기준으로 보관한다.
+ * uid 클레임이 없는 예전 토큰을 위해 이메일 -> 사용자 ID 도 함께 둔다.
+ * 크기와 TTL 로 제한되며, 사용자가 변경되면 명시적으로 무효화된다.
+ * DB 조회는 Cache.get(key, loader) 가 아니라 캐시 밖에서 한다. loader 는 ConcurrentHashMap.compute 의
+ * synchronized 구간 안에서 실행되므로, 가상 스레드에서 JDBC 를 기다리는 동안 캐리어 스레드를 붙잡는다.
+ */
+@Component
+public class PrincipalCache {
+    private final Cache<Long, UserDetailsImpl> principals;
+    private final Cache<String, Long> userIds;
+    // 무효화 횟수. 읽는 사이에 무효화가 있었으면 읽은 값(변경 전일 수 있다)을 남기지 않는다
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public PrincipalCache(@Value("${security.principal-cache.maximum-size}") long maximumSize,
+                          @Value("${security.principal-cache.ttl}") Duration ttl,
+                          MeterRegistry meterRegistry) {
+        this.principals = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+        this.userIds = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(ttl)
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, principals, "principals");
+    }
+
+    /**
+     * uid 클레임의 사용자 정보를 찾는다. 삭제된 사용자면 빈 값이며, 빈 결과는 캐시하지 않는다.
+     */
+    public Optional<UserDetailsImpl> getById(Long userId, Function<Long, Optional<UserDetailsImpl>> loader) {
+        UserDetailsImpl principal = principals.getIfPresent(userId);
+        if (principal != null) {
+            return Optional.of(principal);
+        }
+        long seen = invalidations.get();
+        Optional<UserDetailsImpl> loaded = loader.apply(userId);
+        loaded.ifPresent(found -> cache(found, seen));
+        return loaded;
+    }
+
+    // 블로킹 조회를 할 수 없는 곳(리액티브 경로)에서 캐시만 확인한다
+    public Optional<UserDetailsImpl> getIfPresent(Long userId) {
+        return Optional.ofNullable(principals.getIfPresent(userId));
+    }
+
+    /**
+     * 이메일로 사용자 정보를 찾는다. 이메일이 바뀐 사용자의 이전 매핑이면 캐시된 값을 쓰지 않고 다시 읽는다.
+     */
+    public UserDetailsImpl getByEmail(String email, Function<String, UserDetailsImpl> loader) {
+        Long userId = userIds.getIfPresent(email);
+        UserDetailsImpl principal = userId == null ? null : principals.getIfPresent(userId);
+        if (principal != null && principal.getUsername().equals(email)) {
+            return principal;
+        }
+        long seen = invalidations.get();
+        principal = loader.apply(email);
+        userIds.put(email, principal.getId());
+        cache(principal, seen);
+        return principal;
+    }
+
+    /**
+     * 해당 사용자의 항목을 제거한다. 이메일 매핑은 남겨 두어도 위 조회에서 걸러진다.
+     * 트랜잭션 중이면 커밋 직전 값이 다시 캐시되지 않도록 커밋 이후에 한 번 더 제거한다.
+     */
+    public void evictUser(Long userId) {
+        evictNow(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(userId);
+                }
+            });
+        }
+    }
+
+    private void evictNow(Long userId) {
+        invalidations.incrementAndGet();
+        principals.invalidate(userId);
+    }
+
+    // 넣은 뒤에 무효화 여부를 확인해야 확인과 넣기 사이의 무효화도 놓치지 않는다
+    private void cache(UserDetailsImpl principal, long seen) {
+        principals.put(principal.getId(), principal);
+        if (invalidations.get() != seen) {
+            principals.invalidate(principal.getId());
+        }
+    }
+}
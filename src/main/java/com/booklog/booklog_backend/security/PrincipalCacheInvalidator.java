@@ -0,0 +1,22 @@
+package com.booklog.booklog_backend.security;
+
+import com.booklog.booklog_backend.entity.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * User 엔티티가 수정/삭제되면 캐시된 인증 정보를 무효화하는 엔티티 리스너.
+ */
+@Component
+@RequiredArgsConstructor
+public class PrincipalCacheInvalidator {
+    private final PrincipalCache principalCache;
+
+    @PostUpdate
+    @PostRemove
+    public void onUserChanged(User user) {
+        principalCache.evictUser(user.getId());
+    }
+}
@@ -3,12 +3,13 @@ package com.booklog.booklog_backend.security;
 import com.booklog.booklog_backend.entity.User;
 import com.booklog.booklog_backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
+
 @Service
 @RequiredArgsConstructor
 public class UserDetailsServiceImpl implements UserDetailsService {
@@ -16,10 +17,16 @@ public class UserDetailsServiceImpl implements UserDetailsService {
     
     @Override
     @Transactional
-    public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
+    public UserDetailsImpl loadUserByUsername(String email) throws UsernameNotFoundException {
         User user = userRepository.findByEmail(email)
             .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + email));
         
         return UserDetailsImpl.build(user);
     }
+    
+    // uid 클레임이 있는 토큰의 사용자. 삭제된 사용자면 빈 값
+    @Transactional
+    public Optional<UserDetailsImpl> loadUserById(Long id) {
+        return userRepository.findById(id).map(UserDetailsImpl::build);
+    }
 }
\ No newline at end of file
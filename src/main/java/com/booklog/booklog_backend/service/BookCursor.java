@@ -0,0 +1,40 @@
+package com.booklog.booklog_backend.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지네이션 커서. 마지막으로 내려준 행의 정렬 키와 ID 를 담는다.
+ * 클라이언트에는 Base64URL 로 인코딩된 불투명 문자열로 전달된다.
+ */
+record BookCursor(String sortBy, String key, Long id) {
+    private static final String SEPARATOR = "\n";
+
+    String encode() {
+        String raw = sortBy + SEPARATOR + id + SEPARATOR + key;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    LocalDateTime createdAt() {
+        return LocalDateTime.parse(key);
+    }
+
+    static BookCursor decode(String cursor, String expectedSortBy) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, 3);
+            BookCursor decoded = new BookCursor(parts[0], parts[2], Long.parseLong(parts[1]));
+            if (!decoded.sortBy().equals(expectedSortBy)) {
+                throw new RuntimeException("Cursor does not match sort order");
+            }
+            if ("date".equals(expectedSortBy)) {
+                decoded.createdAt();
+            }
+            return decoded;
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException | DateTimeException e) {
+            throw new RuntimeException("Invalid cursor");
+        }
+    }
+}
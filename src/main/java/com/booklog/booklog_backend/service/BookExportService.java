@@ -0,0 +1,63 @@
+package com.booklog.booklog_backend.service;
+
+import com.booklog.booklog_backend.entity.Book;
+import com.booklog.booklog_backend.repository.BookRepository;
+import com.booklog.booklog_backend.transfer.BookWriter;
+import com.booklog.booklog_backend.transfer.CsvBookWriter;
+import com.booklog.booklog_backend.transfer.ExportFormat;
+import com.booklog.booklog_backend.transfer.NdjsonBookWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 사용자의 책 전체를 NDJSON/CSV 로 내보낸다.
+ * 한 번의 쿼리 결과를 커서로 읽으며 한 권씩 기록하고 바로 영속성 컨텍스트에서 분리하므로,
+ * 책 수와 관계없이 힙 사용량이 일정하다. 응답을 다 보낼 때까지 커넥션을 사용한다.
+ * 한 번 읽고 버리는 책으로 2차 캐시를 채워 자주 읽는 책을 밀어내지 않도록 세션의 캐시 모드를 IGNORE 로 둔다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BookExportService {
+    private final BookRepository bookRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public long export(Long userId, ExportFormat format, OutputStream out) throws IOException {
+        BookWriter writer = format == ExportFormat.CSV
+            ? new CsvBookWriter(out)
+            : new NdjsonBookWriter(objectMapper.getFactory(), out);
+
+        long count = 0;
+        Session session = entityManager.unwrap(Session.class);
+        CacheMode previousCacheMode = session.getCacheMode();
+        session.setCacheMode(CacheMode.IGNORE);
+        try (Stream<Book> books = bookRepository.streamByUserId(userId)) {
+            Iterator<Book> iterator = books.iterator();
+            while (iterator.hasNext()) {
+                Book book = iterator.next();
+                writer.write(book);
+                entityManager.detach(book);
+                count++;
+            }
+        } finally {
+            session.setCacheMode(previousCacheMode);
+        }
+        writer.finish();
+
+        log.info("책 내보내기: user={}, {}권, {}", userId, count, format);
+        return count;
+    }
+}
@@ -0,0 +1,176 @@
+package com.booklog.booklog_backend.service;
+
+import com.booklog.booklog_backend.dto.BookDto;
+import com.booklog.booklog_backend.dto.BookImportResultDto;
+import com.booklog.booklog_backend.entity.Book;
+import com.booklog.booklog_backend.entity.User;
+import com.booklog.booklog_backend.event.BookChangedEvent;
+import com.booklog.booklog_backend.repository.UserRepository;
+import com.booklog.booklog_backend.transfer.BookRow;
+import com.booklog.booklog_backend.transfer.BookRowReader;
+import com.booklog.booklog_backend.transfer.CsvBookReader;
+import com.booklog.booklog_backend.transfer.NdjsonBookReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * CSV/NDJSON 으로 받은 책 목록을 한꺼번에 등록한다.
+ * 입력은 스트림으로 한 행씩 읽어 검증하고, {@code books.import.batch-size} 행마다
+ * 한 트랜잭션에서 JDBC 배치로 넣은 뒤 영속성 컨텍스트를 비워 메모리 사용량을 일정하게 유지한다.
+ * 잘못된 행은 건너뛰고 행 번호와 함께 보고한다.
+ */
+@Service
+@Slf4j
+public class BookImportService {
+    public static final MediaType TEXT_CSV = MediaType.valueOf("text/csv");
+    public static final MediaType APPLICATION_NDJSON = MediaType.APPLICATION_NDJSON;
+
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private final EntityManager entityManager;
+    private final UserRepository userRepository;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public BookImportService(EntityManager entityManager,
+                             UserRepository userRepository,
+                             Validator validator,
+                             ObjectMapper objectMapper,
+                             ApplicationEventPublisher eventPublisher,
+                             TransactionTemplate transactionTemplate,
+                             @Value("${books.import.batch-size}") int batchSize) {
+        this.entityManager = entityManager;
+        this.userRepository = userRepository;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    public BookImportResultDto importBooks(Long userId, MediaType contentType, InputStream body) {
+        if (!userRepository.existsById(userId)) {
+            throw new RuntimeException("User not found");
+        }
+
+        BookImportResultDto result = new BookImportResultDto();
+        List<BookRow> batch = new ArrayList<>(batchSize);
+        try {
+            BookRowReader rows = open(contentType, body);
+            BookRow row;
+            while ((row = rows.next()) != null) {
+                String error = row.isValid() ? validate(row.book()) : row.error();
+                if (error != null) {
+                    fail(result, row.number(), error);
+                    continue;
+                }
+                batch.add(row);
+                if (batch.size() == batchSize) {
+                    insert(userId, batch, result);
+                    batch.clear();
+                }
+            }
+        } catch (IOException e) {
+            // 이미 넣은 배치는 남고, 읽지 못한 나머지는 버린다
+            throw new RuntimeException("Import failed after " + result.getImported() + " books: " + e.getMessage(), e);
+        }
+        insert(userId, batch, result);
+
+        log.info("책 가져오기: user={}, 등록 {}건, 실패 {}건", userId, result.getImported(), result.getFailed());
+        return result;
+    }
+
+    private BookRowReader open(MediaType contentType, InputStream body) {
+        Charset charset = contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8;
+        Reader reader = new BufferedReader(new InputStreamReader(body, charset));
+        if (TEXT_CSV.isCompatibleWith(contentType)) {
+            return new CsvBookReader(reader);
+        }
+        if (APPLICATION_NDJSON.isCompatibleWith(contentType)) {
+            return new NdjsonBookReader(reader, objectMapper.reader());
+        }
+        throw new RuntimeException("Unsupported import format: " + contentType);
+    }
+
+    private String validate(BookDto book) {
+        Set<ConstraintViolation<BookDto>> violations = validator.validate(book);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+            .map(ConstraintViolation::getMessage)
+            .sorted()
+            .collect(Collectors.joining(", "));
+    }
+
+    // 한 배치를 한 트랜잭션으로 넣는다. 실패하면 그 배치의 행만 실패로 보고한다.
+    private void insert(Long userId, List<BookRow> batch, BookImportResultDto result) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new RuntimeException("User not found"));
+                List<Book> books = new ArrayList<>(batch.size());
+                for (BookRow row : batch) {
+                    Book book = new Book();
+                    BeanUtils.copyProperties(row.book(), book, "id", "version");
+                    if (book.getIsPublic() == null) {
+                        book.setIsPublic(true);
+                    }
+                    book.setUser(user);
+                    entityManager.persist(book);
+                    books.add(book);
+                }
+                entityManager.flush();
+                for (Book book : books) {
+                    eventPublisher.publishEvent(BookChangedEvent.saved(book));
+                }
+                entityManager.clear();
+            });
+            result.setImported(result.getImported() + batch.size());
+        } catch (DataAccessException | PersistenceException e) {
+            log.warn("책 가져오기 배치 실패: user={}, 행 {}~{}", userId,
+                batch.get(0).number(), batch.get(batch.size() - 1).number(), e);
+            for (BookRow row : batch) {
+                fail(result, row.number(), "저장하지 못했습니다");
+            }
+        }
+    }
+
+    private static void fail(BookImportResultDto result, long row, String message) {
+        result.setFailed(result.getFailed() + 1);
+        if (result.getErrors().size() < MAX_REPORTED_ERRORS) {
+            result.getErrors().add(new BookImportResultDto.RowError(row, message));
+        } else {
+            result.setErrorsTruncated(true);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.booklog.booklog_backend.service;
+
+import com.booklog.booklog_backend.dto.BookResponseDto;
+import com.booklog.booklog_backend.entity.Book;
+import org.springframework.beans.BeanUtils;
+
+/**
+ * 책 엔티티를 상세 응답으로 바꾼다. 같은 패키지의 벤치마크가 서비스와 같은 변환을 재도록 따로 둔다.
+ */
+final class BookResponseMapper {
+
+    private BookResponseMapper() {
+    }
+
+    static BookResponseDto toResponseDto(Book book) {
+        BookResponseDto dto = new BookResponseDto();
+        BeanUtils.copyProperties(book, dto);
+        dto.setUserNickname(book.getUser().getNickname());
+
+        if (book.getCoverImagePath() != null) {
+            dto.setCoverImageUrl("/api/images/" + book.getCoverImagePath());
+        }
+
+        return dto;
+    }
+}
@@ -1,83 +1,150 @@
 package com.booklog.booklog_backend.service;
 
 import com.booklog.booklog_backend.dto.BookDto;
+import com.booklog.booklog_backend.dto.BookLookupDto;
 import com.booklog.booklog_backend.dto.BookResponseDto;
+import com.booklog.booklog_backend.dto.BookSummaryDto;
+import com.booklog.booklog_backend.dto.CursorSliceDto;
+import com.booklog.booklog_backend.dto.ReadingStatsDto;
+import com.booklog.booklog_backend.dto.SuggestionDto;
 import com.booklog.booklog_backend.entity.Book;
 import com.booklog.booklog_backend.entity.User;
+import com.booklog.booklog_backend.event.BookChangedEvent;
+import com.booklog.booklog_backend.feed.PublicTimeline;
 import com.booklog.booklog_backend.repository.BookRepository;
+import com.booklog.booklog_backend.repository.BookSummary;
 import com.booklog.booklog_backend.repository.UserRepository;
+import com.booklog.booklog_backend.search.BookSearchIndex;
+import com.booklog.booklog_backend.search.BookSuggester;
+import com.booklog.booklog_backend.search.SearchHits;
+import com.booklog.booklog_backend.search.SearchOrder;
+import com.booklog.booklog_backend.stats.ReadingStats;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.util.UUID;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class BookService {
+    // 목록, 스크롤, 피드 한 번에 돌려주는 최대 책 수. 더 큰 값은 이 크기로 줄인다
+    public static final int MAX_PAGE_SIZE = 100;
+    
     private final BookRepository bookRepository;
     private final UserRepository userRepository;
+    private final BookSearchIndex bookSearchIndex;
+    private final BookSuggester bookSuggester;
+    private final PublicTimeline publicTimeline;
+    private final ReadingStats readingStats;
+    private final ImageDerivativeService imageDerivativeService;
+    private final CoverStore coverStore;
+    private final HotCoverCache hotCoverCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
     
-    @Transactional
+    @Value("${books.lookup.max-ids}")
+    private int maxLookupIds;
+    
+    // 표지 업로드는 트랜잭션 밖에서 먼저 저장해 느린 업로드가 DB 커넥션을 붙잡지 않게 한다.
+    // DB 쓰기가 실패하면 저장한 표지를 되돌린다.
     public BookResponseDto createBook(BookDto bookDto, Long userId, MultipartFile coverImage) {
-        User user = userRepository.findById(userId)
-            .orElseThrow(() -> new RuntimeException("User not found"));
-        
-        Book book = new Book();
-        BeanUtils.copyProperties(bookDto, book);
-        book.setUser(user);
+        String imagePath = saveImage(coverImage);
         
-        if (coverImage != null && !coverImage.isEmpty()) {
-            String imagePath = saveImage(coverImage);
-            book.setCoverImagePath(imagePath);
+        BookResponseDto response;
+        try {
+            response = transactionTemplate.execute(status -> {
+                User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new RuntimeException("User not found"));
+                
+                Book book = new Book();
+                BeanUtils.copyProperties(bookDto, book, "id", "version");
+                book.setUser(user);
+                book.setCoverImagePath(imagePath);
+                
+                // 시퀀스 ID 라 INSERT 가 커밋까지 미뤄지므로, 생성 시각이 채워지도록 바로 내보낸다
+                Book savedBook = bookRepository.saveAndFlush(book);
+                eventPublisher.publishEvent(BookChangedEvent.saved(savedBook));
+                return BookResponseMapper.toResponseDto(savedBook);
+            });
+        } catch (RuntimeException e) {
+            discardImage(imagePath);
+            throw e;
         }
         
-        Book savedBook = bookRepository.save(book);
-        return convertToResponseDto(savedBook);
+        onImageCommitted(imagePath);
+        return response;
     }
     
-    @Transactional
     public BookResponseDto updateBook(Long bookId, BookDto bookDto, Long userId, MultipartFile coverImage) {
-        Book book = bookRepository.findById(bookId)
-            .orElseThrow(() -> new RuntimeException("Book not found"));
+        String imagePath = saveImage(coverImage);
         
-        if (!book.getUser().getId().equals(userId)) {
-            throw new RuntimeException("Access denied");
-        }
-        
-        BeanUtils.copyProperties(bookDto, book, "id", "user", "createdAt");
-        
-        if (coverImage != null && !coverImage.isEmpty()) {
-            String imagePath = saveImage(coverImage);
-            book.setCoverImagePath(imagePath);
+        BookResponseDto response;
+        try {
+            response = transactionTemplate.execute(status -> {
+                // 소유자와 버전을 WHERE 절에서 확인하므로 읽고-확인하고-쓰는 사이에 다른 수정이 끼어들 수 없다.
+                // 이전 표지는 다른 책이 공유하지 않으면 정리 작업이 유예 기간 뒤 지운다.
+                if (bookRepository.updateOwned(bookId, userId, bookDto, imagePath, LocalDateTime.now()) == 0) {
+                    throw rejectedWrite(bookId, userId);
+                }
+                
+                // 쓰기가 2차 캐시의 이 책 항목을 잠갔으므로 DB 에서 읽는다
+                Book savedBook = bookRepository.findById(bookId)
+                    .orElseThrow(() -> new RuntimeException("Book not found"));
+                eventPublisher.publishEvent(BookChangedEvent.saved(savedBook));
+                return BookResponseMapper.toResponseDto(savedBook);
+            });
+        } catch (RuntimeException e) {
+            discardImage(imagePath);
+            throw e;
         }
         
-        Book savedBook = bookRepository.save(book);
-        return convertToResponseDto(savedBook);
+        onImageCommitted(imagePath);
+        return response;
     }
     
     @Transactional
     public void deleteBook(Long bookId, Long userId) {
-        Book book = bookRepository.findById(bookId)
-            .orElseThrow(() -> new RuntimeException("Book not found"));
-        
-        if (!book.getUser().getId().equals(userId)) {
-            throw new RuntimeException("Access denied");
+        if (bookRepository.deleteOwned(bookId, userId) == 0) {
+            throw rejectedWrite(bookId, userId);
         }
-        
-        bookRepository.delete(book);
+        eventPublisher.publishEvent(BookChangedEvent.deleted(userId, bookId));
+    }
+    
+    // 조건부 쓰기가 아무 행도 바꾸지 못한 이유 - 실패한 경우에만 조회한다
+    private RuntimeException rejectedWrite(Long bookId, Long userId) {
+        Optional<Long> ownerId = bookRepository.findOwnerIdById(bookId);
+        if (ownerId.isEmpty()) {
+            return new RuntimeException("Book not found");
+        }
+        if (!ownerId.get().equals(userId)) {
+            return new RuntimeException("Access denied");
+        }
+        return new RuntimeException("Book was modified by another request");
     }
     
+    // 2차 캐시에서 온 책은 작성자가 프록시이므로 세션 안에서 풀어야 한다 (작성자도 캐시에 있으면 쿼리 없음)
+    @Transactional(readOnly = true)
     public BookResponseDto getBook(Long bookId, Long userId) {
         Book book = bookRepository.findById(bookId)
             .orElseThrow(() -> new RuntimeException("Book not found"));
@@ -86,10 +153,33 @@ public class BookService {
             throw new RuntimeException("Access denied");
         }
         
-        return convertToResponseDto(book);
+        return BookResponseMapper.toResponseDto(book);
+    }
+    
+    // 여러 책을 한 번의 조회로 가져온다. 권한 규칙은 getBook 과 같고 결과는 요청 순서를 따른다.
+    @Transactional(readOnly = true)
+    public List<BookLookupDto> getBooks(List<Long> bookIds, Long userId) {
+        if (bookIds.size() > maxLookupIds) {
+            throw new RuntimeException("Too many ids (max " + maxLookupIds + ")");
+        }
+        Map<Long, Book> books = bookRepository.findAllById(new HashSet<>(bookIds)).stream()
+            .collect(Collectors.toMap(Book::getId, Function.identity()));
+        
+        return bookIds.stream()
+            .map(id -> {
+                Book book = books.get(id);
+                if (book == null) {
+                    return new BookLookupDto(id, BookLookupDto.Status.NOT_FOUND, null);
+                }
+                if (!book.getUser().getId().equals(userId) && !book.getIsPublic()) {
+                    return new BookLookupDto(id, BookLookupDto.Status.FORBIDDEN, null);
+                }
+                return new BookLookupDto(id, BookLookupDto.Status.OK, BookResponseMapper.toResponseDto(book));
+            })
+            .toList();
     }
     
-    public Page<BookResponseDto> getUserBooks(Long userId, String search, String sortBy, int page, int size) {
+    public Page<BookSummaryDto> getUserBooks(Long userId, String search, String sortBy, int page, int size) {
         Sort sort = Sort.by(Sort.Direction.DESC, "createdAt");
         if ("title".equals(sortBy)) {
             sort = Sort.by(Sort.Direction.ASC, "title");
@@ -97,45 +187,159 @@ public class BookService {
             sort = Sort.by(Sort.Direction.ASC, "author");
         }
         
-        Pageable pageable = PageRequest.of(page, size, sort);
-        Page<Book> books;
+        Pageable pageable = PageRequest.of(page, Math.min(size, MAX_PAGE_SIZE), sort);
+        Page<BookSummary> books;
         
         if (search != null && !search.trim().isEmpty()) {
-            // 수정된 부분: 메소드 이름 변경
+            if (bookSearchIndex.isReady()) {
+                return searchUserBooks(userId, search.trim(), SearchOrder.of(sortBy), pageable);
+            }
+            // 색인 생성 전에는 LIKE 검색으로 대체
             books = bookRepository.findByUserIdAndSearch(userId, search.trim(), pageable);
         } else {
-            books = bookRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable);
+            books = bookRepository.findSummariesByUserId(userId, pageable);
         }
             
-        return books.map(this::convertToResponseDto);
+        return books.map(this::convertToSummaryDto);
+    }
+    
+    // 키셋 방식 목록 조회 - OFFSET 과 COUNT 쿼리 없이 커서 다음 행부터 읽는다
+    public CursorSliceDto<BookSummaryDto> scrollUserBooks(Long userId, String sortBy, String cursor, int size) {
+        String order = "title".equals(sortBy) || "author".equals(sortBy) ? sortBy : "date";
+        BookCursor after = cursor == null || cursor.isBlank() ? null : BookCursor.decode(cursor, order);
+        size = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 읽는다
+        Limit limit = Limit.of(size + 1);
+        
+        List<BookSummary> books;
+        if ("title".equals(order)) {
+            books = after == null
+                ? bookRepository.findFirstByUserIdOrderByTitle(userId, limit)
+                : bookRepository.findNextByUserIdOrderByTitle(userId, after.key(), after.id(), limit);
+        } else if ("author".equals(order)) {
+            books = after == null
+                ? bookRepository.findFirstByUserIdOrderByAuthor(userId, limit)
+                : bookRepository.findNextByUserIdOrderByAuthor(userId, after.key(), after.id(), limit);
+        } else {
+            books = after == null
+                ? bookRepository.findFirstByUserIdOrderByCreatedAt(userId, limit)
+                : bookRepository.findNextByUserIdOrderByCreatedAt(userId, after.createdAt(), after.id(), limit);
+        }
+        
+        return toSlice(books, size, order);
+    }
+    
+    // 모든 사용자의 공개 책 피드 - 최신 구간은 메모리 타임라인에서, 그 밖은 키셋 조회로 읽는다
+    public CursorSliceDto<BookSummaryDto> getPublicFeed(String cursor, int size) {
+        BookCursor after = cursor == null || cursor.isBlank() ? null : BookCursor.decode(cursor, "date");
+        size = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        int limit = size + 1;
+        
+        List<BookSummary> books = after == null
+            ? publicTimeline.page(null, null, limit)
+                .orElseGet(() -> bookRepository.findFirstPublicOrderByCreatedAt(Limit.of(limit)))
+            : publicTimeline.page(after.createdAt(), after.id(), limit)
+                .orElseGet(() -> bookRepository.findNextPublicOrderByCreatedAt(after.createdAt(), after.id(), Limit.of(limit)));
+        
+        return toSlice(books, size, "date");
+    }
+    
+    // 독서 통계 - 변경 시마다 갱신되는 메모리 집계를 읽으므로 DB 를 조회하지 않는다
+    public ReadingStatsDto getReadingStats(Long userId) {
+        return readingStats.statsOf(userId);
+    }
+    
+    // 검색창 자동 완성 - 메모리 색인에서만 찾는다
+    public List<SuggestionDto> suggestBooks(Long userId, String query, String scope, int size) {
+        return bookSuggester.suggest(userId, query, "public".equals(scope), size);
+    }
+    
+    // 한 건 더 읽은 결과로 다음 페이지 여부와 커서를 만든다
+    private CursorSliceDto<BookSummaryDto> toSlice(List<BookSummary> books, int size, String order) {
+        boolean hasNext = books.size() > size;
+        List<BookSummary> content = hasNext ? books.subList(0, size) : books;
+        String nextCursor = null;
+        if (hasNext) {
+            BookSummary last = content.get(content.size() - 1);
+            String key = switch (order) {
+                case "title" -> last.title();
+                case "author" -> last.author();
+                default -> last.createdAt().toString();
+            };
+            nextCursor = new BookCursor(order, key, last.id()).encode();
+        }
+        
+        return new CursorSliceDto<>(
+            content.stream().map(this::convertToSummaryDto).toList(),
+            content.size(), hasNext, nextCursor);
+    }
+    
+    // 색인에서 정렬 기준대로 고른 한 페이지 분량의 책만 조회한다 (sortBy=relevance 면 점수 순)
+    private Page<BookSummaryDto> searchUserBooks(Long userId, String search, SearchOrder order, Pageable pageable) {
+        SearchHits hits = bookSearchIndex.search(userId, search, order, pageable.getPageNumber(), pageable.getPageSize());
+        if (hits.ids().isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, hits.total());
+        }
+        Map<Long, BookSummary> books = bookRepository.findSummariesByIdIn(hits.ids()).stream()
+            .collect(Collectors.toMap(BookSummary::id, Function.identity()));
+        
+        List<BookSummaryDto> content = hits.ids().stream()
+            .map(books::get)
+            .filter(book -> book != null)
+            .map(this::convertToSummaryDto)
+            .toList();
+        return new PageImpl<>(content, pageable, hits.total());
     }
     
+    // 표지를 내용 주소 저장소에 넣고 키를 반환한다. 표지가 없으면 null
     private String saveImage(MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            return null;
+        }
         try {
-            String uploadDir = "uploads/covers";
-            Path uploadPath = Paths.get(uploadDir);
-            
-            if (!Files.exists(uploadPath)) {
-                Files.createDirectories(uploadPath);
-            }
-            
-            String fileName = UUID.randomUUID().toString() + "_" + file.getOriginalFilename();
-            Path filePath = uploadPath.resolve(fileName);
-            Files.copy(file.getInputStream(), filePath);
-            
-            return fileName;
+            return coverStore.store(file);
         } catch (IOException e) {
             throw new RuntimeException("File upload failed", e);
         }
     }
     
-    private BookResponseDto convertToResponseDto(Book book) {
-        BookResponseDto dto = new BookResponseDto();
-        BeanUtils.copyProperties(book, dto);
-        dto.setUserNickname(book.getUser().getNickname());
+    // 커밋된 표지만 캐시에 올리고, 파생 이미지가 아직 없으면 만든다
+    private void onImageCommitted(String key) {
+        if (key == null) {
+            return;
+        }
+        coverStore.unpin(key);
+        hotCoverCache.preload(coverStore.blobName(key));
+        try {
+            if (coverStore.hasDerivatives(key)) {
+                return;
+            }
+        } catch (IOException e) {
+            log.debug("파생 이미지 확인 실패: {}", key, e);
+        }
+        imageDerivativeService.generateAsync(key);
+    }
+    
+    // 저장한 표지는 지우지 않고 고정만 푼다. 다른 책이 쓰지 않으면 정리 작업이 지운다
+    private void discardImage(String key) {
+        if (key == null) {
+            return;
+        }
+        coverStore.unpin(key);
+    }
+    
+    private BookSummaryDto convertToSummaryDto(BookSummary book) {
+        BookSummaryDto dto = new BookSummaryDto();
+        dto.setId(book.id());
+        dto.setTitle(book.title());
+        dto.setAuthor(book.author());
+        dto.setReadDate(book.readDate());
+        dto.setIsPublic(book.isPublic());
+        dto.setCreatedAt(book.createdAt());
+        dto.setUserNickname(book.userNickname());
         
-        if (book.getCoverImagePath() != null) {
-            dto.setCoverImageUrl("/api/images/" + book.getCoverImagePath());
+        if (book.coverImagePath() != null) {
+            dto.setCoverImageUrl("/api/images/" + book.coverImagePath());
         }
         
         return dto;
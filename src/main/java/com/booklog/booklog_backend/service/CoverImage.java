@@ -0,0 +1,61 @@
+package com.booklog.booklog_backend.service;
+
+import com.booklog.booklog_backend.storage.BlobInfo;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * 표지 요청에 보낼 저장소 객체와 응답 헤더 값.
+ * 서블릿과 리액티브 이미지 응답이 같은 ETag, Cache-Control, Content-Type 을 쓰도록 여기서만 정한다.
+ * 키가 내용을 가리키므로 ETag 는 키(와 파생 크기)로 만든다. 저장소의 수정 시각은 재사용할 때마다 갱신되어
+ * 정리 작업의 유예 기간에만 쓰이므로 ETag 나 Last-Modified 에 쓰지 않는다.
+ */
+public record CoverImage(
+        BlobInfo info,
+        String contentType,
+        String etag,
+        String cacheControl) {
+
+    // 표지 키(내용 해시, 이전 방식은 UUID)는 내용이 바뀌지 않으므로 1년간 캐시해도 안전하다
+    private static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+    // 파생본이 아직 없어 원본으로 대체한 응답은 캐시되지 않아야 나중에 파생본을 받는다
+    private static final String REVALIDATE_CACHE_CONTROL = "no-cache";
+
+    static CoverImage derivative(String key, BlobInfo info, CoverSize size) {
+        return new CoverImage(info, "image/jpeg", etag(key, "-" + size.directoryName()),
+            IMMUTABLE_CACHE_CONTROL);
+    }
+
+    /**
+     * @param fallback 파생본을 요청했지만 아직 없어 원본을 보내는 경우
+     */
+    static CoverImage original(String key, BlobInfo info, boolean fallback) {
+        return new CoverImage(info, contentType(key), etag(key, ""),
+            fallback ? REVALIDATE_CACHE_CONTROL : IMMUTABLE_CACHE_CONTROL);
+    }
+
+    public String name() {
+        return info.name();
+    }
+
+    public static String contentType(String filename) {
+        String extension = filename.substring(filename.lastIndexOf(".") + 1).toLowerCase(Locale.ROOT);
+        return switch (extension) {
+            case "jpg", "jpeg" -> "image/jpeg";
+            case "png" -> "image/png";
+            case "gif" -> "image/gif";
+            case "webp" -> "image/webp";
+            default -> "application/octet-stream";
+        };
+    }
+
+    // 이전 방식의 키(UUID_원본이름)는 헤더에 넣을 수 없는 문자가 있을 수 있어 이름 기반 UUID 로 바꾼다
+    private static String etag(String key, String variant) {
+        String tag = CoverStore.isContentKey(key)
+            ? key
+            : UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8)).toString();
+        return "\"" + tag + variant + "\"";
+    }
+}
@@ -0,0 +1,112 @@
+package com.booklog.booklog_backend.service;
+
+import com.booklog.booklog_backend.repository.BookCover;
+import com.booklog.booklog_backend.repository.BookRepository;
+import com.booklog.booklog_backend.storage.BlobInfo;
+import com.booklog.booklog_backend.storage.BlobStorage;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 이전 방식({@code UUID_원본이름})으로 저장된 표지를 내용 주소 저장소로 옮긴다.
+ * {@code --file.migrate-covers=true} 로 실행했을 때만 동작한다.
+ *
+ * 책마다 파일을 저장소로 복사하고 경로를 새 키로 바꾼다. 아무도 참조하지 않게 된 이전 파일은
+ * {@link CoverReclaimer} 가 유예 기간 뒤 지운다.
+ * 중간에 멈춰도 다시 실행하면 남은 책부터 이어서 처리된다.
+ */
+@Component
+@ConditionalOnProperty(name = "file.migrate-covers", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class CoverMigration implements ApplicationRunner {
+    private static final int BATCH_SIZE = 500;
+
+    private final BookRepository bookRepository;
+    private final CoverStore coverStore;
+    private final BlobStorage storage;
+    private final ImageDerivativeService imageDerivativeService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        migrate();
+    }
+
+    public Result migrate() {
+        Result result = new Result();
+        long lastId = 0L;
+        List<BookCover> batch;
+        do {
+            batch = bookRepository.findCoversAfter(lastId, Limit.of(BATCH_SIZE));
+            for (BookCover cover : batch) {
+                if (!CoverStore.isContentKey(cover.coverImagePath())) {
+                    migrate(cover, result);
+                }
+            }
+            if (!batch.isEmpty()) {
+                lastId = batch.get(batch.size() - 1).id();
+            }
+        } while (batch.size() == BATCH_SIZE);
+
+        log.info("표지 마이그레이션 완료: 이동 {}건, 중복 제거 {}건, 파일 없음 {}건, 실패 {}건, 절약 {} bytes",
+            result.migrated, result.deduplicated, result.missing, result.failed, result.savedBytes);
+        return result;
+    }
+
+    private void migrate(BookCover cover, Result result) {
+        String legacyKey = cover.coverImagePath();
+        try {
+            Optional<BlobInfo> legacy = storage.stat(coverStore.blobName(legacyKey));
+            if (legacy.isEmpty()) {
+                log.warn("표지 파일이 없어 건너뜁니다: book={}, path={}", cover.id(), legacyKey);
+                result.missing++;
+                return;
+            }
+            long size = legacy.get().size();
+            String key = coverStore.importLegacy(legacyKey, legacy.get());
+            boolean replaced;
+            boolean existed;
+            try {
+                existed = bookRepository.countByCoverImagePath(key) > 0;
+                replaced = bookRepository.replaceCoverImagePath(cover.id(), legacyKey, key) > 0;
+            } finally {
+                coverStore.unpin(key);
+            }
+            if (!replaced) {
+                // 그 사이 책이 바뀌었다. 복사한 파일은 참조가 없으면 정리 작업이 지운다.
+                return;
+            }
+            // 이전 객체도 더 이상 참조가 없으므로 유예 기간 뒤 정리 작업이 지운다
+
+            if (existed) {
+                result.deduplicated++;
+                result.savedBytes += size;
+            } else {
+                result.migrated++;
+                imageDerivativeService.generateAsync(key);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("표지 마이그레이션 실패: book={}, path={}", cover.id(), legacyKey, e);
+            result.failed++;
+        }
+    }
+
+    @Getter
+    public static class Result {
+        private int migrated;
+        private int deduplicated;
+        private int missing;
+        private int failed;
+        private long savedBytes;
+    }
+}
@@ -0,0 +1,185 @@
+package com.booklog.booklog_backend.service;
+
+import com.booklog.booklog_backend.repository.BookRepository;
+import com.booklog.booklog_backend.storage.BlobInfo;
+import com.booklog.booklog_backend.storage.BlobStorage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * 어떤 책도 참조하지 않는 표지 파일을 주기적으로 지운다.
+ * 저장소는 지연 순회하고 이름은 일정 개수씩 묶어 DB 와 대조하므로,
+ * 파일이 아무리 많아도 한 묶음 분량만 메모리에 둔다.
+ * 업로드 직후의 파일이 지워지지 않도록 유예 기간보다 오래된 파일만 대상으로 한다.
+ */
+@Component
+@ConditionalOnProperty(name = "file.reclaim.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class CoverReclaimer {
+    private static final int BATCH_SIZE = 500;
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final CoverStore coverStore;
+    private final BlobStorage storage;
+    private final BookRepository bookRepository;
+    private final Duration gracePeriod;
+    private final Counter reclaimedBytes;
+    private final Counter reclaimedFiles;
+
+    public CoverReclaimer(CoverStore coverStore,
+                          BlobStorage storage,
+                          BookRepository bookRepository,
+                          @Value("${file.reclaim.grace-period}") Duration gracePeriod,
+                          MeterRegistry meterRegistry) {
+        this.coverStore = coverStore;
+        this.storage = storage;
+        this.bookRepository = bookRepository;
+        this.gracePeriod = gracePeriod;
+        this.reclaimedBytes = Counter.builder("covers.reclaimed.bytes")
+            .baseUnit("bytes")
+            .description("Bytes of unreferenced cover files deleted")
+            .register(meterRegistry);
+        this.reclaimedFiles = Counter.builder("covers.reclaimed.files")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${file.reclaim.interval}", fixedDelayString = "${file.reclaim.interval}")
+    public void reclaimOrphans() {
+        reclaim(Instant.now().minus(gracePeriod));
+    }
+
+    /**
+     * {@code cutoff} 이전에 쓰였고 참조가 없는 원본, 원본이 없는 파생 이미지, 남겨진 임시 파일을 지운다.
+     */
+    public Result reclaim(Instant cutoff) {
+        Result result = new Result();
+        List<BlobInfo> batch = new ArrayList<>(BATCH_SIZE);
+        try (Stream<BlobInfo> blobs = storage.list("")) {
+            Iterator<BlobInfo> iterator = blobs.iterator();
+            while (iterator.hasNext()) {
+                BlobInfo blob = iterator.next();
+                if (!blob.lastModified().isBefore(cutoff)) {
+                    continue;
+                }
+                result.scanned++;
+                if (blob.name().endsWith(TEMP_SUFFIX)) {
+                    // 쓰는 도중 중단된 업로드나 파생 이미지
+                    delete(blob.name(), result);
+                } else if (blob.name().startsWith(CoverStore.DERIVATIVE_PREFIX)) {
+                    reclaimDerivative(blob.name(), result);
+                } else {
+                    batch.add(blob);
+                    if (batch.size() == BATCH_SIZE) {
+                        reclaimOriginals(batch, cutoff, result);
+                        batch.clear();
+                    }
+                }
+            }
+            if (!batch.isEmpty()) {
+                reclaimOriginals(batch, cutoff, result);
+            }
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("표지 정리 중 저장소 순회 실패", e);
+        }
+
+        reclaimedBytes.increment(result.bytes);
+        reclaimedFiles.increment(result.files);
+        if (result.files > 0) {
+            log.info("참조가 없는 표지 정리: {}개 파일, {} bytes", result.files, result.bytes);
+        }
+        return result;
+    }
+
+    private void reclaimOriginals(List<BlobInfo> blobs, Instant cutoff, Result result) {
+        Set<String> keys = new HashSet<>();
+        for (BlobInfo blob : blobs) {
+            keys.add(keyOf(blob.name()));
+        }
+        Set<String> referenced = new HashSet<>(bookRepository.findReferencedCoverImagePaths(keys));
+
+        for (BlobInfo blob : blobs) {
+            String key = keyOf(blob.name());
+            if (referenced.contains(key)) {
+                continue;
+            }
+            if (!isCanonical(key, blob.name())) {
+                // 키로 찾을 수 없는 위치의 객체는 제공되지 않는다
+                delete(blob.name(), result);
+                continue;
+            }
+            // 묶음 조회 이후에 참조되었을 수 있으므로 저장소가 락을 잡고 다시 확인한다
+            long freed = coverStore.reclaim(key, cutoff);
+            if (freed > 0) {
+                result.files++;
+                result.bytes += freed;
+            }
+        }
+    }
+
+    // 파생 이미지 이름은 derivatives/<크기>/[샤드/]<원본 키>.jpg 이다
+    private void reclaimDerivative(String name, Result result) {
+        String key = keyOf(name);
+        if (!key.endsWith(".jpg")) {
+            delete(name, result);
+            return;
+        }
+        key = key.substring(0, key.length() - ".jpg".length());
+        try {
+            if (storage.stat(coverStore.blobName(key)).isEmpty()) {
+                delete(name, result);
+            }
+        } catch (IllegalArgumentException e) {
+            delete(name, result);
+        } catch (IOException e) {
+            log.warn("표지 확인 실패: {}", key, e);
+        }
+    }
+
+    private boolean isCanonical(String key, String name) {
+        try {
+            return coverStore.blobName(key).equals(name);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static String keyOf(String name) {
+        return name.substring(name.lastIndexOf('/') + 1);
+    }
+
+    private void delete(String name, Result result) {
+        try {
+            long freed = coverStore.deleteBlob(name);
+            if (freed > 0) {
+                result.files++;
+                result.bytes += freed;
+            }
+        } catch (IOException e) {
+            log.warn("표지 파일 삭제 실패: {}", name, e);
+        }
+    }
+
+    @Getter
+    public static class Result {
+        private long scanned;
+        private long files;
+        private long bytes;
+    }
+}
@@ -0,0 +1,40 @@
+package com.booklog.booklog_backend.service;
+
+import java.util.Locale;
+
+/**
+ * 표지 이미지 파생본 크기. 업로드 시 원본을 한 번 디코딩해서 각 크기의 JPEG 를 만든다.
+ */
+public enum CoverSize {
+    THUMB(240),
+    DETAIL(720);
+
+    private final int width;
+
+    CoverSize(int width) {
+        this.width = width;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public String directoryName() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 쿼리 파라미터 값을 크기로 변환한다. 알 수 없는 값이나 빈 값이면 null (원본).
+     */
+    public static CoverSize fromParam(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        for (CoverSize size : values()) {
+            if (size.directoryName().equalsIgnoreCase(value.trim())) {
+                return size;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,267 @@
+package com.booklog.booklog_backend.service;
+
+import com.booklog.booklog_backend.repository.BookRepository;
+import com.booklog.booklog_backend.storage.BlobInfo;
+import com.booklog.booklog_backend.storage.BlobStorage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+/**
+ * 내용(SHA-256) 주소 기반 표지 저장소.
+ * 키는 {@code <hash>.<ext>} 이고 저장소 안에서는 해시 앞 두 글자씩 두 단계로 나눈 이름
+ * ({@code ab/cd/<key>})으로 저장한다. 같은 표지를 다시 올리면 해시만 계산하고 쓰지 않는다.
+ * 참조 수는 {@code Book.coverImagePath} 가 해당 키인 책의 수이다. 요청 처리 중에는 지우지 않는다.
+ * 다른 노드가 같은 내용을 방금 재사용했을 수 있고 그 고정(pin)은 이 노드에서 보이지 않기 때문이다.
+ * 참조가 없는 표지는 {@link CoverReclaimer} 가 유예 기간이 지난 뒤에만 지우므로,
+ * 이미 있는 파일을 재사용할 때는 수정 시각을 갱신해 유예 기간을 새로 시작한다.
+ * 이전 방식({@code UUID_원본이름})의 키는 나누지 않은 이름 그대로 찾는다.
+ */
+@Component
+@Slf4j
+public class CoverStore {
+    public static final String DERIVATIVE_PREFIX = "derivatives/";
+
+    private static final Pattern CONTENT_KEY = Pattern.compile("[0-9a-f]{64}(\\.[a-z0-9]{1,5})?");
+    private static final Pattern EXTENSION = Pattern.compile("[a-z0-9]{1,5}");
+    private static final int LOCK_STRIPES = 64;
+
+    private final BlobStorage storage;
+    private final BookRepository bookRepository;
+    private final HotCoverCache hotCoverCache;
+
+    // 같은 키의 저장과 삭제가 엇갈리지 않도록 키별(스트라이프) 락으로 묶는다
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+    // 저장은 되었지만 아직 커밋되지 않은 키. 이 노드의 정리 작업은 유예 기간과 상관없이 건너뛴다.
+    private final Map<String, Integer> pins = new ConcurrentHashMap<>();
+
+    public CoverStore(BlobStorage storage, BookRepository bookRepository, HotCoverCache hotCoverCache) {
+        this.storage = storage;
+        this.bookRepository = bookRepository;
+        this.hotCoverCache = hotCoverCache;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    public static boolean isContentKey(String key) {
+        return CONTENT_KEY.matcher(key).matches();
+    }
+
+    /**
+     * 키의 저장소 이름. 경로를 벗어나는 키는 받지 않는다.
+     */
+    public String blobName(String key) {
+        validate(key);
+        return isContentKey(key) ? shard(key) + key : key;
+    }
+
+    /**
+     * 파생 이미지 이름. 원본과 같은 방식으로 나눈다. 아직 없을 수 있다.
+     */
+    public String derivativeName(String key, CoverSize size) {
+        validate(key);
+        String dir = DERIVATIVE_PREFIX + size.directoryName() + "/";
+        return dir + (isContentKey(key) ? shard(key) : "") + key + ".jpg";
+    }
+
+    /**
+     * 표지 요청에 보낼 객체를 찾는다. 크기를 지정했는데 파생본이 아직 없으면 원본으로 대체한다.
+     * 키가 잘못되었거나 원본도 없으면 빈 값.
+     */
+    public Optional<CoverImage> findImage(String key, CoverSize size) throws IOException {
+        String name;
+        try {
+            name = blobName(key);
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        if (size != null) {
+            Optional<BlobInfo> derivative = storage.stat(derivativeName(key, size));
+            if (derivative.isPresent()) {
+                return Optional.of(CoverImage.derivative(key, derivative.get(), size));
+            }
+        }
+        return storage.stat(name).map(info -> CoverImage.original(key, info, size != null));
+    }
+
+    public boolean hasDerivatives(String key) throws IOException {
+        for (CoverSize size : CoverSize.values()) {
+            if (storage.stat(derivativeName(key, size)).isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 업로드를 저장하고 키를 반환한다. 반환된 키는 고정(pin)되어 있으므로
+     * 책 저장이 성공하든 실패하든 끝나면 {@link #unpin(String)} 을 호출해야 한다.
+     * 실패한 업로드는 참조가 없으므로 유예 기간 뒤 정리 작업이 지운다.
+     */
+    public String store(MultipartFile file) throws IOException {
+        String key;
+        try (InputStream in = file.getInputStream()) {
+            key = digest(in) + extensionOf(file.getOriginalFilename());
+        }
+        String name = blobName(key);
+
+        ReentrantLock lock = lockFor(key);
+        lock.lock();
+        try {
+            pins.merge(key, 1, Integer::sum);
+            try {
+                // 다른 노드의 정리 작업이 지우려던 파일일 수 있으므로 수정 시각을 갱신해 유예 기간을 되돌린다
+                if (storage.touch(name)) {
+                    log.debug("이미 저장된 표지 재사용: {}", key);
+                    return key;
+                }
+                try (InputStream in = file.getInputStream()) {
+                    storage.put(name, in, file.getSize());
+                }
+            } catch (IOException | RuntimeException e) {
+                unpinLocked(key);
+                throw e;
+            }
+            return key;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 이전 방식으로 저장된 표지를 내용 주소로 복사하고 고정된 키를 반환한다.
+     * 이전 객체는 그대로 둔다. (마이그레이션용)
+     */
+    public String importLegacy(String legacyKey, BlobInfo legacy) throws IOException {
+        String key;
+        try (InputStream in = storage.open(legacy.name())) {
+            // 원본 이름의 확장자를 유지한다 (UUID_원본이름)
+            key = digest(in) + extensionOf(legacyKey.substring(legacyKey.indexOf('_') + 1));
+        }
+        String name = blobName(key);
+
+        ReentrantLock lock = lockFor(key);
+        lock.lock();
+        try {
+            if (!storage.touch(name)) {
+                try (InputStream in = storage.open(legacy.name())) {
+                    storage.put(name, in, legacy.size());
+                }
+            }
+            pins.merge(key, 1, Integer::sum);
+            return key;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void unpin(String key) {
+        ReentrantLock lock = lockFor(key);
+        lock.lock();
+        try {
+            unpinLocked(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 참조하는 책이 없고 {@code modifiedBefore} 이전에 쓰인 표지를 지우고 지운 바이트 수를 반환한다.
+     * {@link CoverReclaimer} 만 호출한다.
+     */
+    public long reclaim(String key, Instant modifiedBefore) {
+        ReentrantLock lock = lockFor(key);
+        lock.lock();
+        try {
+            if (pins.containsKey(key) || bookRepository.countByCoverImagePath(key) > 0) {
+                return 0;
+            }
+            Optional<BlobInfo> original = storage.stat(blobName(key));
+            if (original.isPresent() && !original.get().lastModified().isBefore(modifiedBefore)) {
+                return 0;
+            }
+            return delete(key);
+        } catch (IOException e) {
+            log.warn("표지 삭제 실패: {}", key, e);
+            return 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long delete(String key) throws IOException {
+        long freed = deleteBlob(blobName(key));
+        for (CoverSize size : CoverSize.values()) {
+            freed += deleteBlob(derivativeName(key, size));
+        }
+        log.debug("참조가 없는 표지 삭제: {}", key);
+        return freed;
+    }
+
+    // 캐시에서도 내리고 지운 객체 크기를 반환한다
+    long deleteBlob(String name) throws IOException {
+        hotCoverCache.evict(name);
+        return storage.delete(name);
+    }
+
+    private void unpinLocked(String key) {
+        pins.computeIfPresent(key, (k, count) -> count == 1 ? null : count - 1);
+    }
+
+    private static String digest(InputStream in) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        try (DigestInputStream digesting = new DigestInputStream(in, digest)) {
+            digesting.transferTo(OutputStream.nullOutputStream());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    // 확장자는 Content-Type 결정에만 쓰이므로 짧은 영숫자만 허용한다
+    private static String extensionOf(String originalName) {
+        if (originalName == null) {
+            return "";
+        }
+        int dot = originalName.lastIndexOf('.');
+        if (dot < 0) {
+            return "";
+        }
+        String extension = originalName.substring(dot + 1).toLowerCase(Locale.ROOT);
+        return EXTENSION.matcher(extension).matches() ? "." + extension : "";
+    }
+
+    private static void validate(String key) {
+        if (key == null || key.isEmpty() || key.equals(".") || key.equals("..")
+                || key.indexOf('/') >= 0 || key.indexOf('\\') >= 0) {
+            throw new IllegalArgumentException("Invalid cover key: " + key);
+        }
+    }
+
+    private static String shard(String key) {
+        return key.substring(0, 2) + "/" + key.substring(2, 4) + "/";
+    }
+
+    private ReentrantLock lockFor(String key) {
+        return locks[Math.floorMod(key.hashCode(), LOCK_STRIPES)];
+    }
+}
@@ -0,0 +1,184 @@
+package com.booklog.booklog_backend.service;
+
+import com.booklog.booklog_backend.storage.BlobInfo;
+import com.booklog.booklog_backend.storage.BlobStorage;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 작은 표지 이미지를 힙 밖(direct buffer)에 보관하는 LRU 캐시.
+ * 저장소 이름으로 찾으며, 전체 크기(바이트)로 제한되고 처음 읽을 때나 업로드 시점에 채워진다.
+ * 표지 이름은 내용을 가리키므로 같은 이름의 내용은 바뀌지 않는다. 재사용할 때 갱신되는 수정 시각은 보지 않는다.
+ * 제거된 버퍼의 메모리는 GC 가 버퍼 객체를 회수할 때 반환된다.
+ */
+@Component
+@Slf4j
+public class HotCoverCache {
+    private final BlobStorage storage;
+    private final long maxBytes;
+    private final long maxEntryBytes;
+
+    // accessOrder = true 인 LinkedHashMap 으로 LRU 순서를 유지한다
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private final ReentrantLock lock = new ReentrantLock();
+    private long residentBytes = 0;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    private record Entry(ByteBuffer content) {
+    }
+
+    public HotCoverCache(BlobStorage storage,
+                         @Value("${file.cache.max-size}") DataSize maxSize,
+                         @Value("${file.cache.max-entry-size}") DataSize maxEntrySize,
+                         MeterRegistry meterRegistry) {
+        this.storage = storage;
+        this.maxBytes = maxSize.toBytes();
+        this.maxEntryBytes = maxEntrySize.toBytes();
+
+        Gauge.builder("covers.cache.resident.bytes", this, HotCoverCache::residentBytes)
+            .baseUnit("bytes")
+            .description("Bytes of cover images held off-heap")
+            .register(meterRegistry);
+        Gauge.builder("covers.cache.entries", this, HotCoverCache::size)
+            .register(meterRegistry);
+        Gauge.builder("covers.cache.hit.ratio", this, HotCoverCache::hitRatio)
+            .register(meterRegistry);
+        FunctionCounter.builder("covers.cache.requests", hits, AtomicLong::get)
+            .tag("result", "hit")
+            .register(meterRegistry);
+        FunctionCounter.builder("covers.cache.requests", misses, AtomicLong::get)
+            .tag("result", "miss")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 내용을 읽기 전용 버퍼로 반환한다. 없거나 크기가 다르면 읽어서 채운다.
+     * 캐시 대상보다 큰 파일이면 null 을 반환하며 호출자가 저장소에서 직접 전송한다.
+     */
+    public ByteBuffer get(String name, BlobInfo info) {
+        if (info.size() > maxEntryBytes) {
+            return null;
+        }
+        lock.lock();
+        try {
+            Entry entry = entries.get(name);
+            if (entry != null && entry.content().capacity() == info.size()) {
+                hits.incrementAndGet();
+                return entry.content().duplicate();
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        misses.incrementAndGet();
+        Entry loaded = load(name, info.size());
+        return loaded == null ? null : loaded.content().duplicate();
+    }
+
+    /**
+     * 업로드 직후 호출해 새 표지를 미리 올려둔다.
+     */
+    public void preload(String name) {
+        try {
+            Optional<BlobInfo> info = storage.stat(name);
+            if (info.isPresent() && info.get().size() <= maxEntryBytes) {
+                load(name, info.get().size());
+            }
+        } catch (IOException e) {
+            log.debug("표지 캐시 미리 읽기 실패: {}", name, e);
+        }
+    }
+
+    public void evict(String name) {
+        lock.lock();
+        try {
+            Entry removed = entries.remove(name);
+            if (removed != null) {
+                residentBytes -= removed.content().capacity();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long residentBytes() {
+        lock.lock();
+        try {
+            return residentBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public double hitRatio() {
+        long hitCount = hits.get();
+        long total = hitCount + misses.get();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    // 저장소 읽기는 락 밖에서 하고, 넣을 때만 잠근다
+    private Entry load(String name, long size) {
+        ByteBuffer content = ByteBuffer.allocateDirect((int) size);
+        try (InputStream in = storage.open(name); ReadableByteChannel channel = Channels.newChannel(in)) {
+            while (content.hasRemaining() && channel.read(content) >= 0) {
+                // 끝까지 읽는다
+            }
+        } catch (IOException e) {
+            log.debug("표지 캐시 적재 실패: {}", name, e);
+            return null;
+        }
+        if (content.hasRemaining()) {
+            // 읽는 도중 파일이 바뀌었다
+            return null;
+        }
+        content.flip();
+        Entry entry = new Entry(content.asReadOnlyBuffer());
+
+        lock.lock();
+        try {
+            Entry previous = entries.put(name, entry);
+            if (previous != null) {
+                residentBytes -= previous.content().capacity();
+            }
+            residentBytes += size;
+
+            Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+            while (residentBytes > maxBytes && eldest.hasNext()) {
+                Map.Entry<String, Entry> victim = eldest.next();
+                residentBytes -= victim.getValue().content().capacity();
+                eldest.remove();
+            }
+        } finally {
+            lock.unlock();
+        }
+        return entry;
+    }
+}
@@ -0,0 +1,129 @@
+package com.booklog.booklog_backend.service;
+
+import com.booklog.booklog_backend.storage.BlobStorage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+
+/**
+ * 업로드된 표지로부터 고정 폭의 파생 이미지(썸네일, 상세)를 백그라운드에서 만든다.
+ * 원본은 한 번만 디코딩하며, 파생본이 준비되기 전까지는 원본이 제공된다.
+ */
+@Service
+@Slf4j
+public class ImageDerivativeService {
+    private static final float JPEG_QUALITY = 0.8f;
+
+    private final TaskExecutor executor;
+    private final CoverStore coverStore;
+    private final BlobStorage storage;
+
+    public ImageDerivativeService(@Qualifier("imageProcessingExecutor") TaskExecutor executor,
+                                  CoverStore coverStore,
+                                  BlobStorage storage) {
+        this.executor = executor;
+        this.coverStore = coverStore;
+        this.storage = storage;
+    }
+
+    public void generateAsync(String fileName) {
+        executor.execute(() -> generate(fileName));
+    }
+
+    void generate(String fileName) {
+        try {
+            BufferedImage source = decode(coverStore.blobName(fileName));
+            if (source == null) {
+                log.debug("지원하지 않는 이미지 형식이라 파생 이미지를 만들지 않습니다: {}", fileName);
+                return;
+            }
+            for (CoverSize size : CoverSize.values()) {
+                write(resize(source, size.getWidth()), coverStore.derivativeName(fileName, size));
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("파생 이미지 생성 실패: {}", fileName, e);
+        }
+    }
+
+    // 가장 큰 파생 크기의 두 배 정도까지만 서브샘플링해서 디코딩해 큰 원본의 메모리 사용을 줄인다
+    private BufferedImage decode(String original) throws IOException {
+        try (InputStream in = storage.open(original);
+             ImageInputStream input = ImageIO.createImageInputStream(in)) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int maxWidth = 0;
+                for (CoverSize size : CoverSize.values()) {
+                    maxWidth = Math.max(maxWidth, size.getWidth());
+                }
+                int subsampling = Math.max(1, reader.getWidth(0) / (maxWidth * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static BufferedImage resize(BufferedImage source, int targetWidth) {
+        int width = Math.min(targetWidth, source.getWidth());
+        int height = Math.max(1, (int) Math.round((double) source.getHeight() * width / source.getWidth()));
+
+        // JPEG 는 알파 채널이 없으므로 투명 영역은 흰색으로 채운다
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
+    }
+
+    // 파생 이미지는 작으므로 메모리에서 인코딩한 뒤 한 번에 저장한다
+    private void write(BufferedImage image, String name) throws IOException {
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream(64 * 1024);
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(encoded)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        storage.put(name, new ByteArrayInputStream(encoded.toByteArray()), encoded.size());
+    }
+}
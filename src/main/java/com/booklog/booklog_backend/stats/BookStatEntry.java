@@ -0,0 +1,29 @@
+package com.booklog.booklog_backend.stats;
+
+import com.booklog.booklog_backend.event.BookChangedEvent;
+
+import java.time.LocalDate;
+
+/**
+ * 통계에 반영되는 책의 필드만 담은 프로젝션.
+ * 수정/삭제 시 이전 값을 빼기 위해 책마다 보관된다.
+ */
+public record BookStatEntry(
+        Long id,
+        Long userId,
+        String author,
+        String publisher,
+        LocalDate readDate,
+        Boolean isPublic) {
+
+    public static BookStatEntry of(BookChangedEvent event) {
+        return new BookStatEntry(
+            event.bookId(),
+            event.userId(),
+            event.book().author(),
+            event.book().publisher(),
+            event.summary().readDate(),
+            event.summary().isPublic()
+        );
+    }
+}
@@ -0,0 +1,70 @@
+package com.booklog.booklog_backend.stats;
+
+import com.booklog.booklog_backend.dto.ReadingStatsDto;
+import com.booklog.booklog_backend.event.BookChangedEvent;
+import com.booklog.booklog_backend.event.BookProjection;
+import com.booklog.booklog_backend.repository.BookRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 독서 통계(월/연도별 읽은 책, 많이 읽은 저자/출판사, 전체/공개 권수)를 메모리에 유지한다.
+ * 책이 변경될 때마다 커밋 이후 해당 책의 이전 값을 빼고 새 값을 더하므로, 조회 시 books 를 집계하지 않는다.
+ * 롤백된 변경은 이벤트가 오지 않아 반영되지 않는다.
+ * 시작 시와 주기적으로 books 에서 다시 집계해 다른 노드에서 일어난 변경을 반영한다.
+ */
+@Component
+public class ReadingStats {
+    private final int topLimit;
+    private final BookProjection<Map<Long, UserReadingStats>, BookStatEntry> projection;
+
+    public ReadingStats(BookRepository bookRepository,
+                        @Value("${stats.top-limit}") int topLimit) {
+        this.topLimit = topLimit;
+        this.projection = new BookProjection<>("독서 통계",
+            ConcurrentHashMap::new,
+            bookRepository::findStatEntriesAfter,
+            BookStatEntry::id,
+            (users, book) -> users.computeIfAbsent(book.userId(), id -> new UserReadingStats()).put(book),
+            ReadingStats::apply);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        projection.rebuild();
+    }
+
+    @Scheduled(initialDelayString = "${stats.refresh-interval}",
+               fixedDelayString = "${stats.refresh-interval}")
+    public void refresh() {
+        rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        projection.apply(event);
+    }
+
+    public ReadingStatsDto statsOf(Long userId) {
+        UserReadingStats stats = projection.current().get(userId);
+        return stats == null ? ReadingStatsDto.empty() : stats.view(topLimit);
+    }
+
+    private static void apply(Map<Long, UserReadingStats> users, BookChangedEvent event) {
+        if (event.isDeleted()) {
+            UserReadingStats stats = users.get(event.userId());
+            if (stats != null) {
+                stats.remove(event.bookId());
+            }
+        } else {
+            users.computeIfAbsent(event.userId(), id -> new UserReadingStats()).put(BookStatEntry.of(event));
+        }
+    }
+}
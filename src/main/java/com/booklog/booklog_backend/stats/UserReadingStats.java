@@ -0,0 +1,114 @@
+package com.booklog.booklog_backend.stats;
+
+import com.booklog.booklog_backend.dto.ReadingStatsDto;
+import com.booklog.booklog_backend.dto.ReadingStatsDto.NameCount;
+import com.booklog.booklog_backend.dto.ReadingStatsDto.PeriodCount;
+
+import java.time.YearMonth;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 한 사용자의 독서 통계 집계.
+ * 책 ID -> 반영된 값을 함께 보관해 수정/삭제 시 이전 값을 빼고 새 값을 더한다.
+ * 조회 결과는 다음 변경 전까지 캐시되므로 반복 조회는 집계를 다시 하지 않는다.
+ */
+class UserReadingStats {
+    private static final Comparator<Map.Entry<String, Integer>> MOST_READ_FIRST =
+        Map.Entry.<String, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey());
+
+    private final Map<Long, BookStatEntry> books = new HashMap<>();
+    private final TreeMap<Integer, Integer> years = new TreeMap<>();
+    private final TreeMap<YearMonth, Integer> months = new TreeMap<>();
+    private final Map<String, Integer> authors = new HashMap<>();
+    private final Map<String, Integer> publishers = new HashMap<>();
+    private int publicBooks;
+
+    private volatile ReadingStatsDto view;
+
+    synchronized void put(BookStatEntry book) {
+        BookStatEntry previous = books.put(book.id(), book);
+        if (previous != null) {
+            apply(previous, -1);
+        }
+        apply(book, 1);
+        view = null;
+    }
+
+    synchronized void remove(Long bookId) {
+        BookStatEntry previous = books.remove(bookId);
+        if (previous != null) {
+            apply(previous, -1);
+            view = null;
+        }
+    }
+
+    ReadingStatsDto view(int topLimit) {
+        ReadingStatsDto current = view;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (view == null) {
+                view = build(topLimit);
+            }
+            return view;
+        }
+    }
+
+    private void apply(BookStatEntry book, int delta) {
+        if (Boolean.TRUE.equals(book.isPublic())) {
+            publicBooks += delta;
+        }
+        if (book.readDate() != null) {
+            add(years, book.readDate().getYear(), delta);
+            add(months, YearMonth.from(book.readDate()), delta);
+        }
+        String author = normalize(book.author());
+        if (author != null) {
+            add(authors, author, delta);
+        }
+        String publisher = normalize(book.publisher());
+        if (publisher != null) {
+            add(publishers, publisher, delta);
+        }
+    }
+
+    private ReadingStatsDto build(int topLimit) {
+        return new ReadingStatsDto(
+            books.size(),
+            publicBooks,
+            years.entrySet().stream()
+                .map(entry -> new PeriodCount(entry.getKey().toString(), entry.getValue()))
+                .toList(),
+            months.entrySet().stream()
+                .map(entry -> new PeriodCount(entry.getKey().toString(), entry.getValue()))
+                .toList(),
+            top(authors, topLimit),
+            top(publishers, topLimit)
+        );
+    }
+
+    private static List<NameCount> top(Map<String, Integer> counts, int limit) {
+        return counts.entrySet().stream()
+            .sorted(MOST_READ_FIRST)
+            .limit(limit)
+            .map(entry -> new NameCount(entry.getKey(), entry.getValue()))
+            .toList();
+    }
+
+    // 0 이 된 항목은 지워서 목록에 남지 않게 한다
+    private static <K> void add(Map<K, Integer> counts, K key, int delta) {
+        counts.merge(key, delta, (a, b) -> a + b == 0 ? null : a + b);
+    }
+
+    private static String normalize(String name) {
+        if (name == null || name.isBlank()) {
+            return null;
+        }
+        return name.trim();
+    }
+}
@@ -0,0 +1,12 @@
+package com.booklog.booklog_backend.storage;
+
+import java.time.Instant;
+
+/**
+ * 저장소 객체의 이름, 크기, 마지막 수정 시각.
+ */
+public record BlobInfo(
+        String name,
+        long size,
+        Instant lastModified) {
+}
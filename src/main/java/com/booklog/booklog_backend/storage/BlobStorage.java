@@ -0,0 +1,53 @@
+package com.booklog.booklog_backend.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * 표지 파일을 담는 저장소. 이름은 {@code /} 로 구분된 상대 경로이다 (예: {@code ab/cd/<key>}).
+ * 구현체는 내용을 메모리에 통째로 올리지 않고 스트림으로 주고받는다.
+ */
+public interface BlobStorage {
+
+    /**
+     * 없으면 빈 값을 반환한다.
+     */
+    Optional<BlobInfo> stat(String name) throws IOException;
+
+    /**
+     * {@code length} 바이트를 읽어 저장한다. 다 쓰이기 전에는 다른 읽기에 보이지 않는다.
+     */
+    void put(String name, InputStream content, long length) throws IOException;
+
+    /**
+     * 수정 시각을 지금으로 바꾼다. 객체가 없으면 false.
+     */
+    boolean touch(String name) throws IOException;
+
+    InputStream open(String name) throws IOException;
+
+    /**
+     * {@code start} 부터 {@code length} 바이트만 읽는다.
+     */
+    InputStream open(String name, long start, long length) throws IOException;
+
+    /**
+     * 지운 객체의 크기를 반환한다. 없었으면 0.
+     */
+    long delete(String name) throws IOException;
+
+    /**
+     * 이름이 {@code prefix} 로 시작하는 객체를 지연 순회한다. 사용 후 닫아야 한다.
+     */
+    Stream<BlobInfo> list(String prefix) throws IOException;
+
+    /**
+     * 로컬 파일로 바로 접근할 수 있으면 그 경로 (sendfile 등 무복사 전송용).
+     */
+    default Optional<Path> localPath(String name) {
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,139 @@
+package com.booklog.booklog_backend.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * 로컬 디렉터리 저장소. 노드 하나에서만 쓰거나 공유 파일 시스템에 둘 때 사용한다.
+ */
+public class LocalBlobStorage implements BlobStorage {
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final Path root;
+
+    public LocalBlobStorage(Path root) {
+        this.root = root.toAbsolutePath().normalize();
+    }
+
+    public Path root() {
+        return root;
+    }
+
+    /**
+     * 이름에 해당하는 경로. 저장소 밖을 가리키면 예외를 던진다.
+     */
+    public Path resolve(String name) {
+        Path path = root.resolve(name).normalize();
+        if (!path.startsWith(root) || path.equals(root)) {
+            throw new IllegalArgumentException("Invalid blob name: " + name);
+        }
+        return path;
+    }
+
+    @Override
+    public Optional<BlobInfo> stat(String name) throws IOException {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(resolve(name), BasicFileAttributes.class);
+            if (!attributes.isRegularFile()) {
+                return Optional.empty();
+            }
+            return Optional.of(new BlobInfo(name, attributes.size(), attributes.lastModifiedTime().toInstant()));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        }
+    }
+
+    // 임시 파일에 쓴 뒤 원자적으로 옮겨 반쯤 쓰인 파일이 제공되지 않게 한다
+    @Override
+    public void put(String name, InputStream content, long length) throws IOException {
+        Path target = resolve(name);
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), "blob", TEMP_SUFFIX);
+        try {
+            Files.copy(content, temp, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public boolean touch(String name) throws IOException {
+        try {
+            Files.setLastModifiedTime(resolve(name), FileTime.from(Instant.now()));
+            return true;
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public InputStream open(String name) throws IOException {
+        return Files.newInputStream(resolve(name));
+    }
+
+    @Override
+    public InputStream open(String name, long start, long length) throws IOException {
+        FileChannel channel = FileChannel.open(resolve(name), StandardOpenOption.READ);
+        channel.position(start);
+        InputStream in = Channels.newInputStream(channel);
+        return new BoundedInputStream(in, length);
+    }
+
+    @Override
+    public long delete(String name) throws IOException {
+        Path file = resolve(name);
+        try {
+            long size = Files.size(file);
+            Files.delete(file);
+            return size;
+        } catch (NoSuchFileException e) {
+            return 0;
+        }
+    }
+
+    @Override
+    public Stream<BlobInfo> list(String prefix) throws IOException {
+        if (!Files.isDirectory(root)) {
+            return Stream.empty();
+        }
+        return Files.walk(root)
+            .map(this::info)
+            .flatMap(Optional::stream)
+            .filter(info -> info.name().startsWith(prefix));
+    }
+
+    @Override
+    public Optional<Path> localPath(String name) {
+        return Optional.of(resolve(name));
+    }
+
+    private Optional<BlobInfo> info(Path path) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            if (!attributes.isRegularFile()) {
+                return Optional.empty();
+            }
+            String name = root.relativize(path).toString().replace(path.getFileSystem().getSeparator(), "/");
+            return Optional.of(new BlobInfo(name, attributes.size(), attributes.lastModifiedTime().toInstant()));
+        } catch (NoSuchFileException e) {
+            // 순회 중에 지워졌다
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
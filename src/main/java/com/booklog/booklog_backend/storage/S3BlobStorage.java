@@ -0,0 +1,135 @@
+package com.booklog.booklog_backend.storage;
+
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.MetadataDirective;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * S3 호환 객체 저장소. 여러 노드가 같은 버킷을 공유한다.
+ * 업로드는 길이를 알려 준 스트림으로 보내고, 다운로드는 응답 스트림을 그대로 넘겨준다.
+ */
+public class S3BlobStorage implements BlobStorage {
+    private static final int NOT_FOUND = 404;
+
+    private final S3Client s3;
+    private final String bucket;
+    private final String prefix;
+
+    /**
+     * @param prefix 모든 객체 이름 앞에 붙일 경로 (예: {@code covers/}). 비어 있어도 된다.
+     */
+    public S3BlobStorage(S3Client s3, String bucket, String prefix) {
+        this.s3 = s3;
+        this.bucket = bucket;
+        this.prefix = prefix == null || prefix.isEmpty() || prefix.endsWith("/") ? nullToEmpty(prefix) : prefix + "/";
+    }
+
+    @Override
+    public Optional<BlobInfo> stat(String name) throws IOException {
+        try {
+            HeadObjectResponse head = s3.headObject(request -> request.bucket(bucket).key(key(name)));
+            return Optional.of(new BlobInfo(name, head.contentLength(), head.lastModified()));
+        } catch (NoSuchKeyException e) {
+            return Optional.empty();
+        } catch (S3Exception e) {
+            if (e.statusCode() == NOT_FOUND) {
+                return Optional.empty();
+            }
+            throw new IOException("S3 HEAD failed: " + name, e);
+        }
+    }
+
+    // S3 의 PUT 은 완료되기 전까지 보이지 않으므로 따로 임시 객체를 두지 않는다
+    @Override
+    public void put(String name, InputStream content, long length) throws IOException {
+        try {
+            s3.putObject(request -> request.bucket(bucket).key(key(name)).contentLength(length),
+                RequestBody.fromInputStream(content, length));
+        } catch (S3Exception e) {
+            throw new IOException("S3 PUT failed: " + name, e);
+        }
+    }
+
+    // S3 는 수정 시각만 바꿀 수 없으므로 메타데이터를 바꾸는 자기 자신으로의 복사로 갱신한다
+    @Override
+    public boolean touch(String name) throws IOException {
+        try {
+            s3.copyObject(request -> request
+                .sourceBucket(bucket).sourceKey(key(name))
+                .destinationBucket(bucket).destinationKey(key(name))
+                .metadataDirective(MetadataDirective.REPLACE));
+            return true;
+        } catch (NoSuchKeyException e) {
+            return false;
+        } catch (S3Exception e) {
+            if (e.statusCode() == NOT_FOUND) {
+                return false;
+            }
+            throw new IOException("S3 COPY failed: " + name, e);
+        }
+    }
+
+    @Override
+    public InputStream open(String name) throws IOException {
+        try {
+            return s3.getObject(request -> request.bucket(bucket).key(key(name)));
+        } catch (S3Exception e) {
+            throw new IOException("S3 GET failed: " + name, e);
+        }
+    }
+
+    @Override
+    public InputStream open(String name, long start, long length) throws IOException {
+        if (length <= 0) {
+            return InputStream.nullInputStream();
+        }
+        String range = "bytes=" + start + "-" + (start + length - 1);
+        try {
+            return s3.getObject(request -> request.bucket(bucket).key(key(name)).range(range));
+        } catch (S3Exception e) {
+            throw new IOException("S3 GET failed: " + name, e);
+        }
+    }
+
+    @Override
+    public long delete(String name) throws IOException {
+        Optional<BlobInfo> existing = stat(name);
+        if (existing.isEmpty()) {
+            return 0;
+        }
+        try {
+            s3.deleteObject(request -> request.bucket(bucket).key(key(name)));
+            return existing.get().size();
+        } catch (S3Exception e) {
+            throw new IOException("S3 DELETE failed: " + name, e);
+        }
+    }
+
+    // 페이지는 스트림을 소비하는 만큼만 요청한다
+    @Override
+    public Stream<BlobInfo> list(String namePrefix) {
+        ListObjectsV2Request request = ListObjectsV2Request.builder()
+            .bucket(bucket)
+            .prefix(key(namePrefix))
+            .build();
+        return s3.listObjectsV2Paginator(request).contents().stream()
+            .map(object -> new BlobInfo(object.key().substring(prefix.length()), object.size(), object.lastModified()));
+    }
+
+    private String key(String name) {
+        return prefix + name;
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
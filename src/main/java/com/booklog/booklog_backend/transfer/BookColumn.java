@@ -0,0 +1,89 @@
+package com.booklog.booklog_backend.transfer;
+
+import com.booklog.booklog_backend.dto.BookDto;
+import com.booklog.booklog_backend.entity.Book;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * 가져오기/내보내기의 열. 헤더(NDJSON 에서는 필드) 이름은 BookDto 의 필드 이름과 같아서
+ * 내보낸 파일을 그대로 다시 가져올 수 있다.
+ */
+public enum BookColumn {
+    TITLE("title", Book::getTitle, BookDto::setTitle),
+    AUTHOR("author", Book::getAuthor, BookDto::setAuthor),
+    PUBLISHER("publisher", Book::getPublisher, BookDto::setPublisher),
+    READ_DATE("readDate", Book::getReadDate, (book, value) -> book.setReadDate(parseDate(value))),
+    IS_PUBLIC("isPublic", Book::getIsPublic, (book, value) -> book.setIsPublic(parseBoolean(value))),
+    DESCRIPTION("description", Book::getDescription, BookDto::setDescription),
+    REVIEW("review", Book::getReview, BookDto::setReview),
+    BEFORE_THOUGHTS("beforeThoughts", Book::getBeforeThoughts, BookDto::setBeforeThoughts),
+    AFTER_THOUGHTS("afterThoughts", Book::getAfterThoughts, BookDto::setAfterThoughts);
+
+    private final String header;
+    private final Function<Book, Object> getter;
+    private final BiConsumer<BookDto, String> setter;
+
+    BookColumn(String header, Function<Book, Object> getter, BiConsumer<BookDto, String> setter) {
+        this.header = header;
+        this.getter = getter;
+        this.setter = setter;
+    }
+
+    public String header() {
+        return header;
+    }
+
+    /**
+     * 헤더 이름으로 찾는다. 대소문자와 밑줄(read_date)은 구분하지 않는다. 없으면 null
+     */
+    public static BookColumn fromHeader(String name) {
+        String normalized = name.trim().replace("_", "").toLowerCase(Locale.ROOT);
+        for (BookColumn column : values()) {
+            if (column.header.toLowerCase(Locale.ROOT).equals(normalized)) {
+                return column;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 내보낼 값. 문자열, LocalDate, Boolean 중 하나이거나 null
+     */
+    public Object value(Book book) {
+        return getter.apply(book);
+    }
+
+    /**
+     * 빈 값은 건너뛰어 BookDto 의 기본값을 유지한다.
+     *
+     * @throws IllegalArgumentException 날짜나 공개 여부 형식이 잘못된 경우
+     */
+    public void apply(BookDto book, String value) {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        setter.accept(book, value);
+    }
+
+    private static LocalDate parseDate(String value) {
+        try {
+            return LocalDate.parse(value.trim());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("readDate 는 yyyy-MM-dd 형식이어야 합니다: " + value);
+        }
+    }
+
+    private static Boolean parseBoolean(String value) {
+        String normalized = value.trim().toLowerCase(Locale.ROOT);
+        return switch (normalized) {
+            case "true", "1", "y", "yes" -> true;
+            case "false", "0", "n", "no" -> false;
+            default -> throw new IllegalArgumentException("isPublic 은 true 또는 false 여야 합니다: " + value);
+        };
+    }
+}
@@ -0,0 +1,23 @@
+package com.booklog.booklog_backend.transfer;
+
+import com.booklog.booklog_backend.dto.BookDto;
+
+/**
+ * 가져오기 입력의 한 행. 행을 해석하지 못했으면 book 은 null 이고 error 에 이유가 담긴다.
+ *
+ * @param number 입력에서의 행 번호 (CSV 는 헤더 다음 행이 1, NDJSON 은 줄 번호)
+ */
+public record BookRow(long number, BookDto book, String error) {
+
+    public static BookRow of(long number, BookDto book) {
+        return new BookRow(number, book, null);
+    }
+
+    public static BookRow invalid(long number, String error) {
+        return new BookRow(number, null, error);
+    }
+
+    public boolean isValid() {
+        return error == null;
+    }
+}
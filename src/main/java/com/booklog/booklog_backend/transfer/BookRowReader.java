@@ -0,0 +1,16 @@
+package com.booklog.booklog_backend.transfer;
+
+import java.io.IOException;
+
+/**
+ * 가져오기 입력을 한 행씩 읽는다. 전체를 메모리에 올리지 않는다.
+ */
+public interface BookRowReader {
+
+    /**
+     * 다음 행. 입력이 끝났으면 null. 빈 행은 건너뛴다.
+     *
+     * @throws IOException 입력을 더 읽을 수 없을 만큼 형식이 깨진 경우
+     */
+    BookRow next() throws IOException;
+}
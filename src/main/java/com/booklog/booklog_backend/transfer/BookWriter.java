@@ -0,0 +1,18 @@
+package com.booklog.booklog_backend.transfer;
+
+import com.booklog.booklog_backend.entity.Book;
+
+import java.io.IOException;
+
+/**
+ * 책을 한 권씩 출력 스트림에 기록한다. 내부 버퍼 외에는 아무것도 쌓아 두지 않는다.
+ */
+public interface BookWriter {
+
+    void write(Book book) throws IOException;
+
+    /**
+     * 남은 버퍼를 내보낸다. 출력 스트림은 닫지 않는다.
+     */
+    void finish() throws IOException;
+}
@@ -0,0 +1,74 @@
+package com.booklog.booklog_backend.transfer;
+
+import com.booklog.booklog_backend.dto.BookDto;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 첫 행을 헤더로 하는 CSV. 열 순서는 자유이며 {@link BookColumn} 에 없는 열이 있으면 거부한다.
+ */
+public class CsvBookReader implements BookRowReader {
+    private static final int MAX_RECORD_CHARS = 1_000_000;
+
+    private final CsvReader csv;
+    private List<BookColumn> columns;
+    private long rowNumber = 0;
+
+    public CsvBookReader(Reader in) {
+        this.csv = new CsvReader(in, MAX_RECORD_CHARS);
+    }
+
+    @Override
+    public BookRow next() throws IOException {
+        if (columns == null) {
+            columns = readHeader();
+            if (columns == null) {
+                return null;
+            }
+        }
+        List<String> fields;
+        do {
+            fields = csv.readRecord();
+            if (fields == null) {
+                return null;
+            }
+        } while (fields.size() == 1 && fields.get(0).isBlank());
+
+        long number = ++rowNumber;
+        if (fields.size() != columns.size()) {
+            return BookRow.invalid(number, "열 개수가 헤더와 다릅니다 (" + fields.size() + " / " + columns.size() + ")");
+        }
+        BookDto book = new BookDto();
+        try {
+            for (int i = 0; i < columns.size(); i++) {
+                columns.get(i).apply(book, fields.get(i));
+            }
+        } catch (IllegalArgumentException e) {
+            return BookRow.invalid(number, e.getMessage());
+        }
+        return BookRow.of(number, book);
+    }
+
+    private List<BookColumn> readHeader() throws IOException {
+        List<String> header = csv.readRecord();
+        if (header == null) {
+            return null;
+        }
+        // 엑셀이 붙이는 BOM 제거
+        if (!header.isEmpty() && header.get(0).startsWith("\uFEFF")) {
+            header.set(0, header.get(0).substring(1));
+        }
+        List<BookColumn> resolved = new ArrayList<>(header.size());
+        for (String name : header) {
+            BookColumn column = BookColumn.fromHeader(name);
+            if (column == null) {
+                throw new IOException("Unknown CSV column: " + name);
+            }
+            resolved.add(column);
+        }
+        return resolved;
+    }
+}
@@ -0,0 +1,66 @@
+package com.booklog.booklog_backend.transfer;
+
+import com.booklog.booklog_backend.entity.Book;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@link BookColumn} 순서의 헤더와 행을 RFC 4180 형식으로 쓴다.
+ * 엑셀에서 한글이 깨지지 않도록 UTF-8 BOM 을 앞에 붙인다 (가져오기는 BOM 을 무시한다).
+ */
+public class CsvBookWriter implements BookWriter {
+    private static final BookColumn[] COLUMNS = BookColumn.values();
+
+    private final Writer out;
+
+    public CsvBookWriter(OutputStream out) throws IOException {
+        this.out = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        this.out.write('\uFEFF');
+        for (int i = 0; i < COLUMNS.length; i++) {
+            if (i > 0) {
+                this.out.write(',');
+            }
+            this.out.write(COLUMNS[i].header());
+        }
+        this.out.write("\r\n");
+    }
+
+    @Override
+    public void write(Book book) throws IOException {
+        for (int i = 0; i < COLUMNS.length; i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            Object value = COLUMNS[i].value(book);
+            if (value != null) {
+                writeField(value.toString());
+            }
+        }
+        out.write("\r\n");
+    }
+
+    @Override
+    public void finish() throws IOException {
+        out.flush();
+    }
+
+    private void writeField(String value) throws IOException {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\r' || c == '\n';
+        }
+        if (!quote) {
+            out.write(value);
+            return;
+        }
+        out.write('"');
+        out.write(value.replace("\"", "\"\""));
+        out.write('"');
+    }
+}
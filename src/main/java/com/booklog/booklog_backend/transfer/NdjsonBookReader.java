@@ -0,0 +1,64 @@
+package com.booklog.booklog_backend.transfer;
+
+import com.booklog.booklog_backend.dto.BookDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * 한 줄에 BookDto JSON 객체 하나씩. 너무 긴 줄은 버리고 오류로 보고한다.
+ */
+public class NdjsonBookReader implements BookRowReader {
+    private static final int MAX_LINE_CHARS = 1_000_000;
+
+    private final Reader in;
+    private final ObjectReader reader;
+    private final StringBuilder line = new StringBuilder();
+    private long lineNumber = 0;
+    private boolean eof = false;
+
+    public NdjsonBookReader(Reader in, ObjectReader reader) {
+        this.in = in;
+        this.reader = reader.forType(BookDto.class);
+    }
+
+    @Override
+    public BookRow next() throws IOException {
+        while (!eof) {
+            boolean tooLong = readLine();
+            lineNumber++;
+            if (tooLong) {
+                return BookRow.invalid(lineNumber, "행이 너무 깁니다");
+            }
+            if (line.toString().isBlank()) {
+                continue;
+            }
+            try {
+                return BookRow.of(lineNumber, reader.readValue(line.toString()));
+            } catch (JsonProcessingException e) {
+                return BookRow.invalid(lineNumber, "JSON 형식 오류: " + e.getOriginalMessage());
+            }
+        }
+        return null;
+    }
+
+    // 줄바꿈까지 읽는다. 최대 길이를 넘으면 나머지는 버리고 true 를 반환한다.
+    private boolean readLine() throws IOException {
+        line.setLength(0);
+        boolean tooLong = false;
+        int c;
+        while ((c = in.read()) != -1 && c != '\n') {
+            if (line.length() < MAX_LINE_CHARS) {
+                line.append((char) c);
+            } else {
+                tooLong = true;
+            }
+        }
+        if (c == -1) {
+            eof = true;
+        }
+        return tooLong;
+    }
+}
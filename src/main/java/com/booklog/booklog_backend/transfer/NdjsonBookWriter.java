@@ -0,0 +1,43 @@
+package com.booklog.booklog_backend.transfer;
+
+import com.booklog.booklog_backend.entity.Book;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 한 줄에 책 하나씩 {@link BookColumn} 필드를 가진 JSON 객체로 쓴다. 값이 없는 필드는 생략한다.
+ */
+public class NdjsonBookWriter implements BookWriter {
+    private final JsonGenerator json;
+
+    public NdjsonBookWriter(JsonFactory factory, OutputStream out) throws IOException {
+        this.json = factory.createGenerator(out, JsonEncoding.UTF8);
+        // 출력 스트림은 호출자가 관리한다
+        this.json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.json.setRootValueSeparator(null);
+    }
+
+    @Override
+    public void write(Book book) throws IOException {
+        json.writeStartObject();
+        for (BookColumn column : BookColumn.values()) {
+            Object value = column.value(book);
+            if (value instanceof Boolean flag) {
+                json.writeBooleanField(column.header(), flag);
+            } else if (value != null) {
+                json.writeStringField(column.header(), value.toString());
+            }
+        }
+        json.writeEndObject();
+        json.writeRaw('\n');
+    }
+
+    @Override
+    public void finish() throws IOException {
+        json.flush();
+    }
+}
@@ -113,11 +113,47 @@ const bookAPI = {
         return await apiCall(`/api/books?${params}`);
     },
 
+    // 책 목록 커서 조회 (무한 스크롤용)
+    async scrollBooks(sortBy = 'date', cursor = null, size = 20) {
+        const params = new URLSearchParams({
+            sortBy,
+            size: size.toString()
+        });
+        
+        if (cursor) {
+            params.append('cursor', cursor);
+        }
+        
+        return await apiCall(`/api/books/scroll?${params}`);
+    },
+
     // 책 상세 조회
     async getBook(bookId) {
         return await apiCall(`/api/books/${bookId}`);
     },
 
+    // 여러 책 한 번에 조회 - 요청 순서대로 { id, status: OK | NOT_FOUND | FORBIDDEN, book } 목록
+    async getBooksByIds(bookIds) {
+        const params = new URLSearchParams({ ids: bookIds.join(',') });
+        return await apiCall(`/api/books/lookup?${params}`);
+    },
+
+    // 검색창 자동 완성 - [{ field: title | author | publisher, text, count }]
+    async suggestBooks(q, scope = 'mine', size = 10) {
+        const params = new URLSearchParams({
+            q,
+            scope,
+            size: size.toString()
+        });
+        
+        return await apiCall(`/api/books/suggest?${params}`);
+    },
+
+    // 내 독서 통계 - { totalBooks, publicBooks, years, months, topAuthors, topPublishers }
+    async getReadingStats() {
+        return await apiCall('/api/books/stats');
+    },
+
     // 책 등록
     async createBook(bookData, coverImage = null) {
         const formData = new FormData();
@@ -1,24 +1,42 @@
 // 전역 변수
 let currentBooks = [];
 let currentEditingBook = null;
+let nextCursor = null;
+let isLoadingMore = false;
+// 정렬/검색이 바뀌면 증가시켜 이전 요청의 응답을 버린다
+let loadGeneration = 0;
+
+const SCROLL_PAGE_SIZE = 30;
 
 // 페이지 로드 시 초기화
 document.addEventListener('DOMContentLoaded', function() {
     checkAuth();
     
-    // 검색 입력 이벤트
+    // 검색 입력 이벤트 - 입력 중에는 자동 완성만 조회하고, 목록 검색은 입력을 마쳤을 때(엔터, 후보 선택) 한다
     const searchInput = document.getElementById('searchInput');
-    let searchTimeout;
+    let suggestTimeout;
     searchInput.addEventListener('input', function() {
-        clearTimeout(searchTimeout);
-        searchTimeout = setTimeout(() => {
+        clearTimeout(suggestTimeout);
+        if (!searchInput.value.trim()) {
+            renderSuggestions([]);
             loadBooks();
-        }, 500);
+            return;
+        }
+        suggestTimeout = setTimeout(loadSuggestions, 150);
     });
+    searchInput.addEventListener('change', loadBooks);
     
     // 이미지 업로드 미리보기
     const bookCover = document.getElementById('bookCover');
     bookCover.addEventListener('change', handleImagePreview);
+    
+    // 무한 스크롤 - 목록 끝의 센티널이 보이면 다음 페이지 로드
+    const observer = new IntersectionObserver(entries => {
+        if (entries.some(entry => entry.isIntersecting)) {
+            loadMoreBooks();
+        }
+    }, { rootMargin: '400px' });
+    observer.observe(document.getElementById('booksSentinel'));
 });
 
 // 책 목록 로드
@@ -26,9 +44,23 @@ async function loadBooks() {
     try {
         const search = document.getElementById('searchInput').value;
         const sortBy = document.getElementById('sortSelect').value;
+        const generation = ++loadGeneration;
         
-        const response = await bookAPI.getBooks(search, sortBy, 0, 100);
-        currentBooks = response.content || [];
+        let books;
+        let cursor = null;
+        if (search.trim()) {
+            // 검색은 점수 순 결과이므로 기존 페이지 방식 사용
+            const response = await bookAPI.getBooks(search, sortBy, 0, 100);
+            books = response.content || [];
+        } else {
+            const slice = await bookAPI.scrollBooks(sortBy, null, SCROLL_PAGE_SIZE);
+            books = slice.content || [];
+            cursor = slice.nextCursor;
+        }
+        
+        if (generation !== loadGeneration) return;
+        currentBooks = books;
+        nextCursor = cursor;
         
         renderBooks();
         
@@ -37,6 +69,54 @@ async function loadBooks() {
     }
 }
 
+// 검색어 자동 완성 후보 로드
+let suggestGeneration = 0;
+async function loadSuggestions() {
+    const query = document.getElementById('searchInput').value;
+    const generation = ++suggestGeneration;
+    try {
+        const suggestions = await bookAPI.suggestBooks(query);
+        if (generation !== suggestGeneration) return;
+        renderSuggestions(suggestions);
+    } catch (error) {
+        // 자동 완성 실패는 검색에 영향을 주지 않는다
+        console.error('자동 완성 오류:', error);
+    }
+}
+
+function renderSuggestions(suggestions) {
+    const list = document.getElementById('searchSuggestions');
+    list.innerHTML = '';
+    suggestions.forEach(suggestion => {
+        const option = document.createElement('option');
+        option.value = suggestion.text;
+        list.appendChild(option);
+    });
+}
+
+// 다음 페이지 로드 (무한 스크롤)
+async function loadMoreBooks() {
+    if (!nextCursor || isLoadingMore) return;
+    
+    isLoadingMore = true;
+    const generation = loadGeneration;
+    try {
+        const sortBy = document.getElementById('sortSelect').value;
+        const slice = await bookAPI.scrollBooks(sortBy, nextCursor, SCROLL_PAGE_SIZE);
+        
+        if (generation !== loadGeneration) return;
+        currentBooks = currentBooks.concat(slice.content || []);
+        nextCursor = slice.nextCursor;
+        
+        renderBooks();
+        
+    } catch (error) {
+        handleAPIError(error);
+    } finally {
+        isLoadingMore = false;
+    }
+}
+
 // 책 목록 렌더링
 function renderBooks() {
     const booksGrid = document.getElementById('booksGrid');
@@ -55,7 +135,7 @@ function renderBooks() {
         <div class="book-card" onclick="showBookDetail(${book.id})">
             <div class="book-cover">
                 ${book.coverImageUrl ? 
-                    `<img src="${book.coverImageUrl}" alt="${book.title}" />` :
+                    `<img src="${book.coverImageUrl}?size=thumb" alt="${book.title}" loading="lazy" />` :
                     `<div class="default-cover">📚</div>`
                 }
             </div>
@@ -107,7 +187,7 @@ function showEditForm(book) {
         coverPreview.innerHTML = `
             <div style="margin-top: 1rem;">
                 <p style="font-size: 0.9rem; color: #6b7280;">현재 이미지:</p>
-                <img src="${book.coverImageUrl}" alt="현재 표지" style="max-width: 100px; height: auto; border-radius: 4px;" />
+                <img src="${book.coverImageUrl}?size=thumb" alt="현재 표지" style="max-width: 100px; height: auto; border-radius: 4px;" />
             </div>
         `;
     } else {
@@ -145,6 +225,11 @@ async function handleBookSubmit(event) {
         isPublic: document.getElementById('bookIsPublic').checked
     };
     
+    // 수정 중 다른 탭에서 바뀌었으면 서버가 거절하도록 처음 읽은 버전을 함께 보낸다
+    if (currentEditingBook) {
+        bookData.version = currentEditingBook.version;
+    }
+    
     if (!bookData.title || !bookData.author) {
         showError('책 제목과 저자는 필수 입력사항입니다.');
         return;
@@ -190,7 +275,7 @@ async function showBookDetail(bookId) {
             <div class="book-detail-header">
                 <div class="book-detail-cover">
                     ${book.coverImageUrl ? 
-                        `<img src="${book.coverImageUrl}" alt="${book.title}" />` :
+                        `<img src="${book.coverImageUrl}?size=detail" alt="${book.title}" />` :
                         `<div class="default-cover" style="font-size: 4rem;">📚</div>`
                     }
                 </div>
@@ -0,0 +1,139 @@
+package com.booklog.booklog_backend.benchmark;
+
+import com.booklog.booklog_backend.entity.User;
+import com.booklog.booklog_backend.repository.UserRepository;
+import com.booklog.booklog_backend.security.AuthTokenFilter;
+import com.booklog.booklog_backend.security.JwtUtils;
+import com.booklog.booklog_backend.security.PrincipalCache;
+import com.booklog.booklog_backend.security.UserDetailsImpl;
+import com.booklog.booklog_backend.security.UserDetailsServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static com.booklog.booklog_backend.support.TestFixtures.jwtUtils;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 요청마다 거치는 인증 경로: JwtUtils 의 발급/검증과 AuthTokenFilter 전체.
+ * 검증은 캐시된 토큰(같은 토큰이 반복되는 일반적인 경우)과 처음 보는 토큰(서명 검증)을 나눠 잰다.
+ * 필터는 uid 클레임이 있는 토큰(ID 로 사용자 캐시 조회)과 예전 토큰(이메일로 조회)을 각각 목 요청과 빈 체인으로 실행한다.
+ * 할당량은 -prof gc 로 본다 (jmh.profilers 기본값).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuthenticationBenchmark {
+    // 검증 캐시 크기보다 훨씬 많이 돌려 써서 매번 서명을 검증하게 한다
+    private static final int UNCACHED_TOKENS = 1024;
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    private JwtUtils jwtUtils;
+    private JwtUtils uncachedJwtUtils;
+    private AuthTokenFilter filter;
+    private Authentication authentication;
+    private String token;
+    private String legacyToken;
+    private String[] uncachedTokens;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        jwtUtils = jwtUtils(86_400_000, 10_000);
+        uncachedJwtUtils = jwtUtils(86_400_000, 1);
+
+        User user = new User();
+        user.setId(1L);
+        user.setEmail("reader@booklog.test");
+        user.setPassword("password");
+        user.setNickname("reader");
+        UserDetails principal = UserDetailsImpl.build(user);
+        authentication = new UsernamePasswordAuthenticationToken(principal, null, List.of());
+        token = jwtUtils.generateJwtToken(authentication);
+        // uid 클레임 없이 발급된 예전 토큰
+        legacyToken = jwtUtils.generateJwtToken(new UsernamePasswordAuthenticationToken(
+            org.springframework.security.core.userdetails.User.withUsername(user.getEmail())
+                .password(user.getPassword())
+                .authorities(List.of())
+                .build(),
+            null, List.of()));
+        uncachedTokens = new String[UNCACHED_TOKENS];
+        for (int i = 0; i < UNCACHED_TOKENS; i++) {
+            uncachedTokens[i] = jwtUtils.generateJwtToken(new UsernamePasswordAuthenticationToken(
+                new UserDetailsImpl((long) i, user.getEmail(), null, null), null, List.of()));
+        }
+
+        // 캐시가 비었을 때만 사용자를 읽으므로 저장소는 목으로 둔다
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
+        PrincipalCache principalCache = new PrincipalCache(10_000, Duration.ofMinutes(10), new SimpleMeterRegistry());
+        filter = new AuthTokenFilter(jwtUtils, new UserDetailsServiceImpl(userRepository), principalCache);
+    }
+
+    @Benchmark
+    public String generateJwtToken() {
+        return jwtUtils.generateJwtToken(authentication);
+    }
+
+    @Benchmark
+    public boolean validateJwtToken() {
+        return jwtUtils.validateJwtToken(token);
+    }
+
+    @Benchmark
+    public boolean validateJwtTokenUncached() {
+        next = (next + 1) % UNCACHED_TOKENS;
+        return uncachedJwtUtils.validateJwtToken(uncachedTokens[next]);
+    }
+
+    @Benchmark
+    public String getUserNameFromJwtToken() {
+        return jwtUtils.getUserNameFromJwtToken(token);
+    }
+
+    @Benchmark
+    public Object authTokenFilter() throws Exception {
+        return filter(token);
+    }
+
+    @Benchmark
+    public Object authTokenFilterLegacyToken() throws Exception {
+        return filter(legacyToken);
+    }
+
+    private Object filter(String jwt) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/books");
+        request.addHeader("Authorization", "Bearer " + jwt);
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), NO_OP_CHAIN);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.booklog.booklog_backend.benchmark;
+
+import com.booklog.booklog_backend.controller.ImageFileWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.UrlResource;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 표지 이미지 전송 비교: 이전 UrlResource + 스트림 복사 방식과 FileChannel.transferTo 방식.
+ * 버리는 스트림으로 보내는 경우와, 실제 응답처럼 루프백 소켓으로 보내는 경우
+ * (리눅스에서 transferTo 가 sendfile 로 처리됨)를 각각 측정한다. 할당량은 -prof gc 로 본다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ImageServingBenchmark {
+
+    @Param({"32768", "1048576", "8388608"})
+    private int fileSize;
+
+    private Path file;
+    private OutputStream sink;
+    private WritableByteChannel sinkChannel;
+
+    private ServerSocketChannel server;
+    private SocketChannel socket;
+    private OutputStream socketStream;
+    private Thread drainer;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        byte[] content = new byte[fileSize];
+        new Random(42).nextBytes(content);
+        file = Files.createTempFile("cover", ".jpg");
+        Files.write(file, content);
+        sink = OutputStream.nullOutputStream();
+        sinkChannel = Channels.newChannel(sink);
+
+        server = ServerSocketChannel.open().bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        socket = SocketChannel.open(server.getLocalAddress());
+        socketStream = Channels.newOutputStream(socket);
+        SocketChannel peer = server.accept();
+        drainer = new Thread(() -> drain(peer), "socket-drainer");
+        drainer.setDaemon(true);
+        drainer.start();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        socket.close();
+        server.close();
+        Files.deleteIfExists(file);
+    }
+
+    // 이전 구현: UrlResource 생성, exists() 확인, ResourceHttpMessageConverter 와 같은 스트림 복사
+    @Benchmark
+    public long urlResourceCopy() throws IOException {
+        Resource resource = new UrlResource(file.toUri());
+        if (!resource.exists()) {
+            throw new IllegalStateException("missing " + file);
+        }
+        try (InputStream in = resource.getInputStream()) {
+            return StreamUtils.copy(in, sink);
+        }
+    }
+
+    @Benchmark
+    public long fileChannelTransfer() throws IOException {
+        long length = Files.size(file);
+        ImageFileWriter.transfer(file, 0, length, sinkChannel);
+        return length;
+    }
+
+    @Benchmark
+    public long urlResourceCopyToSocket() throws IOException {
+        Resource resource = new UrlResource(file.toUri());
+        if (!resource.exists()) {
+            throw new IllegalStateException("missing " + file);
+        }
+        try (InputStream in = resource.getInputStream()) {
+            return StreamUtils.copy(in, socketStream);
+        }
+    }
+
+    @Benchmark
+    public long fileChannelTransferToSocket() throws IOException {
+        long length = Files.size(file);
+        ImageFileWriter.transfer(file, 0, length, socket);
+        return length;
+    }
+
+    private static void drain(SocketChannel peer) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(256 * 1024);
+        try (peer) {
+            while (peer.read(buffer) >= 0) {
+                buffer.clear();
+            }
+        } catch (IOException e) {
+            // 벤치마크 종료 시 소켓이 닫힌다
+        }
+    }
+}
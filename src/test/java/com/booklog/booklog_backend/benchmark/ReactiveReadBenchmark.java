@@ -0,0 +1,129 @@
+package com.booklog.booklog_backend.benchmark;
+
+import com.booklog.booklog_backend.BooklogApplication;
+import com.booklog.booklog_backend.dto.BookResponseDto;
+import com.booklog.booklog_backend.entity.User;
+import com.booklog.booklog_backend.reactive.ReactiveReadServer;
+import com.booklog.booklog_backend.repository.UserRepository;
+import com.booklog.booklog_backend.security.JwtUtils;
+import com.booklog.booklog_backend.service.BookService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static com.booklog.booklog_backend.support.TestFixtures.book;
+import static com.booklog.booklog_backend.support.TestFixtures.saveUser;
+import static com.booklog.booklog_backend.support.TestFixtures.token;
+
+/**
+ * 같은 읽기 요청을 서블릿 API(Tomcat, JPA)와 리액티브 API(Reactor Netty, R2DBC)에 높은 동시성으로 보내 처리량을 비교한다.
+ * 한 애플리케이션에서 두 포트를 모두 띄우고 api 파라미터로 보낼 포트를 고른다.
+ * 두 경로 모두 같은 인메모리 H2 를 쓰고 지연을 더하지 않으므로(SimulatedDbLatency 는 JPA 에만 걸린다)
+ * 서버와 스레드 모델, 이미지 파일 읽기의 차이만 잰다. 원격 DB 에서는 요청 스레드가 기다리는 시간만큼 차이가 커진다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Threads(256)
+@Fork(1)
+public class ReactiveReadBenchmark {
+    private static final int BOOKS = 200;
+
+    @Param({"blocking", "reactive"})
+    private String api;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private String baseUrl;
+    private String authorization;
+    private String coverPath;
+    private long[] bookIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(BooklogApplication.class)
+            .profiles("test")
+            .run(
+                "--server.port=0",
+                "--reactive.enabled=true",
+                "--reactive.port=0",
+                "--logging.level.root=WARN",
+                "--logging.level.com.booklog=WARN");
+        int port = "reactive".equals(api)
+            ? context.getBean(ReactiveReadServer.class).port()
+            : ((WebServerApplicationContext) context).getWebServer().getPort();
+        baseUrl = "http://localhost:" + port;
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+        User user = saveUser(context.getBean(UserRepository.class), "reactive");
+        authorization = "Bearer " + token(context.getBean(JwtUtils.class), user);
+
+        BookService bookService = context.getBean(BookService.class);
+        bookIds = new long[BOOKS];
+        for (int i = 0; i < BOOKS; i++) {
+            bookIds[i] = bookService.createBook(book("Book " + i), user.getId(), null).getId();
+        }
+        byte[] cover = new byte[64 * 1024];
+        new Random(42).nextBytes(cover);
+        BookResponseDto withCover = bookService.createBook(book("Cover"), user.getId(),
+            new MockMultipartFile("coverImage", "cover.jpg", "image/jpeg", cover));
+        coverPath = withCover.getCoverImageUrl();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int bookList() throws Exception {
+        return send("/api/books?sortBy=title&page=0&size=20");
+    }
+
+    @Benchmark
+    public int bookDetail() throws Exception {
+        long id = bookIds[(int) (Thread.currentThread().getId() % BOOKS)];
+        return send("/api/books/" + id);
+    }
+
+    @Benchmark
+    public int coverImage() throws Exception {
+        return send(coverPath);
+    }
+
+    private int send(String path) throws Exception {
+        HttpResponse<byte[]> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", authorization)
+                .GET()
+                .build(),
+            HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(response.statusCode() + " " + response.uri());
+        }
+        return response.body().length;
+    }
+}
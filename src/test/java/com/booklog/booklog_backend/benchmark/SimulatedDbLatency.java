@@ -0,0 +1,23 @@
+package com.booklog.booklog_backend.benchmark;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * SQL 문마다 네트워크 왕복만큼 기다려 인메모리 H2 를 원격 MariaDB 처럼 보이게 한다.
+ * 벤치마크가 hibernate.session_factory.statement_inspector 로 등록한다.
+ */
+public class SimulatedDbLatency implements StatementInspector {
+    static volatile long millis;
+
+    @Override
+    public String inspect(String sql) {
+        if (millis > 0) {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return sql;
+    }
+}
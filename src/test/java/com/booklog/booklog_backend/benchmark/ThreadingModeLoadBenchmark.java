@@ -0,0 +1,161 @@
+package com.booklog.booklog_backend.benchmark;
+
+import com.booklog.booklog_backend.BooklogApplication;
+import com.booklog.booklog_backend.dto.BookDto;
+import com.booklog.booklog_backend.dto.BookResponseDto;
+import com.booklog.booklog_backend.entity.User;
+import com.booklog.booklog_backend.repository.UserRepository;
+import com.booklog.booklog_backend.security.JwtUtils;
+import com.booklog.booklog_backend.service.BookService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static com.booklog.booklog_backend.support.TestFixtures.book;
+import static com.booklog.booklog_backend.support.TestFixtures.saveUser;
+import static com.booklog.booklog_backend.support.TestFixtures.token;
+
+/**
+ * 플랫폼 스레드와 가상 스레드(spring.threads.virtual.enabled) 모드의 처리량 비교.
+ * 애플리케이션을 실제 포트로 띄우고 여러 스레드에서 책 CRUD 와 표지 이미지 요청을 동시에 보낸다.
+ * SQL 문마다 dbLatencyMillis 만큼 기다리므로(SimulatedDbLatency) 요청 스레드가 DB 를 기다리며 묶이는 상황이 재현된다.
+ * Tomcat 스레드는 줄이고 커넥션 풀은 클라이언트 스레드 수보다 크게 잡아, 플랫폼 모드에서는 Tomcat 스레드가 병목이 된다.
+ *
+ * 가상 스레드 모드는 Java 21 이상에서 실행해야 한다. JDK 17 에서는 설정이 무시되어 두 모드가 같은 플랫폼 스레드로 돌며,
+ * 지금까지 측정한 것은 플랫폼 모드뿐이다. 고정(pinning) 지점은 다음과 같이 함께 확인한다:
+ * ./mvnw -Pbenchmark test-compile exec:exec -Djmh.args="ThreadingModeLoad -jvmArgsAppend -Djdk.tracePinnedThreads=short"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Threads(64)
+@Fork(1)
+public class ThreadingModeLoadBenchmark {
+    private static final int TOMCAT_THREADS = 16;
+    private static final int POOL_SIZE = 80;
+    private static final String BOUNDARY = "booklog-benchmark";
+
+    @Param({"platform", "virtual"})
+    private String threading;
+
+    @Param({"5"})
+    private long dbLatencyMillis;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private ObjectMapper objectMapper;
+    private String baseUrl;
+    private String authorization;
+    private String coverUrl;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        boolean virtual = "virtual".equals(threading);
+        if (virtual && Runtime.version().feature() < 21) {
+            throw new IllegalStateException("가상 스레드 모드는 Java 21 이상에서 실행해야 합니다");
+        }
+        SimulatedDbLatency.millis = 0;
+        // 설정 파일보다 우선하도록 명령행 인자로 넘긴다 (properties(...) 는 기본값이라 application.yml 에 가려진다)
+        context = new SpringApplicationBuilder(BooklogApplication.class)
+            .profiles("test")
+            .run(
+                "--server.port=0",
+                "--spring.threads.virtual.enabled=" + virtual,
+                "--server.tomcat.threads.max=" + TOMCAT_THREADS,
+                "--spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                "--spring.jpa.properties.hibernate.session_factory.statement_inspector=" + SimulatedDbLatency.class.getName(),
+                "--logging.level.root=WARN",
+                "--logging.level.com.booklog=WARN");
+        baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+        objectMapper = context.getBean(ObjectMapper.class);
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+        User user = saveUser(context.getBean(UserRepository.class), "load");
+        authorization = "Bearer " + token(context.getBean(JwtUtils.class), user);
+
+        byte[] cover = new byte[64 * 1024];
+        new Random(42).nextBytes(cover);
+        BookResponseDto withCover = context.getBean(BookService.class).createBook(book("Cover"), user.getId(),
+            new MockMultipartFile("coverImage", "cover.jpg", "image/jpeg", cover));
+        coverUrl = baseUrl + withCover.getCoverImageUrl();
+
+        SimulatedDbLatency.millis = dbLatencyMillis;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        SimulatedDbLatency.millis = 0;
+        context.close();
+    }
+
+    // 등록, 조회, 수정, 삭제를 차례로
+    @Benchmark
+    public long bookCrud() throws Exception {
+        String created = send(multipart(HttpRequest.newBuilder(URI.create(baseUrl + "/api/books")), "POST", book("Load")));
+        long id = objectMapper.readTree(created).get("id").asLong();
+        URI bookUri = URI.create(baseUrl + "/api/books/" + id);
+        send(HttpRequest.newBuilder(bookUri).GET());
+        send(multipart(HttpRequest.newBuilder(bookUri), "PUT", book("Load updated")));
+        send(HttpRequest.newBuilder(bookUri).DELETE());
+        return id;
+    }
+
+    @Benchmark
+    public int bookList() throws Exception {
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/books?sortBy=title&page=0&size=20")).GET()).length();
+    }
+
+    @Benchmark
+    public int coverImage() throws Exception {
+        return send(HttpRequest.newBuilder(URI.create(coverUrl)).GET()).length();
+    }
+
+    private String send(HttpRequest.Builder request) throws Exception {
+        HttpResponse<String> response = client.send(
+            request.header("Authorization", authorization).build(),
+            HttpResponse.BodyHandlers.ofString(StandardCharsets.ISO_8859_1));
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(response.statusCode() + " " + response.uri());
+        }
+        return response.body();
+    }
+
+    // 표지 없이 book 파트만 보낸다
+    private HttpRequest.Builder multipart(HttpRequest.Builder request, String method, BookDto book) throws IOException {
+        String body = "--" + BOUNDARY + "\r\n"
+            + "Content-Disposition: form-data; name=\"book\"\r\n"
+            + "Content-Type: application/json\r\n\r\n"
+            + objectMapper.writeValueAsString(book) + "\r\n"
+            + "--" + BOUNDARY + "--\r\n";
+        return request
+            .header("Content-Type", "multipart/form-data; boundary=" + BOUNDARY)
+            .method(method, HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,131 @@
+package com.booklog.booklog_backend.controller;
+
+import com.booklog.booklog_backend.dto.BookDto;
+import com.booklog.booklog_backend.dto.BookResponseDto;
+import com.booklog.booklog_backend.entity.User;
+import com.booklog.booklog_backend.repository.UserRepository;
+import com.booklog.booklog_backend.security.JwtUtils;
+import com.booklog.booklog_backend.service.BookService;
+import com.booklog.booklog_backend.support.StatementBudget;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static com.booklog.booklog_backend.support.TestFixtures.book;
+import static com.booklog.booklog_backend.support.TestFixtures.saveUser;
+import static com.booklog.booklog_backend.support.TestFixtures.token;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class BookControllerStatementBudgetTest {
+    private static final int OWNERS = 5;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    private String token;
+    private List<Long> otherUsersBookIds;
+
+    @BeforeEach
+    void setUp() {
+        User reader = saveUser(userRepository, "reader");
+        for (int i = 0; i < 10; i++) {
+            bookService.createBook(book("Reader Book " + i, "Author " + i), reader.getId(), null);
+        }
+
+        otherUsersBookIds = new ArrayList<>();
+        for (int i = 0; i < OWNERS; i++) {
+            User owner = saveUser(userRepository, "owner" + i);
+            BookResponseDto created = bookService.createBook(book("Public Book " + i, "Writer"), owner.getId(), null);
+            otherUsersBookIds.add(created.getId());
+        }
+
+        token = token(jwtUtils, reader);
+    }
+
+    @Test
+    void listPageUsesSelectAndCountOnly() throws Exception {
+        // 인증은 토큰 클레임만으로 처리되므로 목록 1 + COUNT 1
+        StatementBudget.within(2, () -> mockMvc.perform(get("/api/books")
+                .param("size", "5")
+                .header("Authorization", "Bearer " + token))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(5)));
+    }
+
+    @Test
+    void scrollPageUsesSingleSelect() throws Exception {
+        StatementBudget.within(1, () -> mockMvc.perform(get("/api/books/scroll")
+                .param("size", "5")
+                .header("Authorization", "Bearer " + token))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[0].userNickname").exists()));
+    }
+
+    @Test
+    void searchLoadsOnlyMatchingSummaries() throws Exception {
+        StatementBudget.within(1, () -> mockMvc.perform(get("/api/books")
+                .param("search", "reader")
+                .header("Authorization", "Bearer " + token))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalElements").value(10)));
+    }
+
+    @Test
+    void publicBookOfAnotherOwnerLoadsOwnerWithBook() throws Exception {
+        for (Long bookId : otherUsersBookIds) {
+            StatementBudget.within(1, () -> mockMvc.perform(get("/api/books/{id}", bookId)
+                    .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.userNickname").exists()));
+        }
+    }
+
+    @Test
+    void lookupResolvesManyIdsInOneSelectInRequestOrder() throws Exception {
+        User owner = saveUser(userRepository, "private-owner");
+        BookDto hidden = book("Private Book", "Writer");
+        hidden.setIsPublic(false);
+        Long privateId = bookService.createBook(hidden, owner.getId(), null).getId();
+        Long publicId = otherUsersBookIds.get(0);
+
+        StatementBudget.within(1, () -> mockMvc.perform(get("/api/books/lookup")
+                .param("ids", publicId + "," + Long.MAX_VALUE + "," + privateId + "," + publicId)
+                .header("Authorization", "Bearer " + token))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(4))
+            .andExpect(jsonPath("$[0].status").value("OK"))
+            .andExpect(jsonPath("$[0].book.userNickname").value("owner0"))
+            .andExpect(jsonPath("$[1].id").value(Long.MAX_VALUE))
+            .andExpect(jsonPath("$[1].status").value("NOT_FOUND"))
+            .andExpect(jsonPath("$[2].status").value("FORBIDDEN"))
+            .andExpect(jsonPath("$[2].book").doesNotExist())
+            .andExpect(jsonPath("$[3].id").value(publicId)));
+
+        mockMvc.perform(get("/api/books/lookup")
+                .param("ids", LongStream.rangeClosed(1, 101).mapToObj(String::valueOf).toArray(String[]::new))
+                .header("Authorization", "Bearer " + token))
+            .andExpect(status().isBadRequest());
+    }
+}
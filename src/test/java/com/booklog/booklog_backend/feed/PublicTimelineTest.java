@@ -0,0 +1,231 @@
+package com.booklog.booklog_backend.feed;
+
+import com.booklog.booklog_backend.dto.BookResponseDto;
+import com.booklog.booklog_backend.dto.BookSummaryDto;
+import com.booklog.booklog_backend.dto.CursorSliceDto;
+import com.booklog.booklog_backend.entity.User;
+import com.booklog.booklog_backend.event.BookChangedEvent;
+import com.booklog.booklog_backend.event.BookSnapshot;
+import com.booklog.booklog_backend.repository.BookRepository;
+import com.booklog.booklog_backend.repository.BookSummary;
+import com.booklog.booklog_backend.repository.UserRepository;
+import com.booklog.booklog_backend.service.BookService;
+import com.booklog.booklog_backend.support.StatementBudget;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.booklog.booklog_backend.support.TestFixtures.book;
+import static com.booklog.booklog_backend.support.TestFixtures.saveUser;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "feed.timeline.capacity=4")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class PublicTimelineTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private PublicTimeline publicTimeline;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = saveUser(userRepository, "reader");
+        publicTimeline.rebuild();
+    }
+
+    @Test
+    void firstPageIsServedFromMemoryWithoutLogin() throws Exception {
+        BookResponseDto newest = bookService.createBook(book("Newest", true), user.getId(), null);
+
+        StatementBudget.within(0, () -> mockMvc.perform(get("/api/books/feed").param("size", "2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[0].id").value(newest.getId()))
+            .andExpect(jsonPath("$.content[0].userNickname").value("reader")));
+    }
+
+    @Test
+    void followsCreateUpdateAndDelete() {
+        BookResponseDto hidden = bookService.createBook(book("Hidden", false), user.getId(), null);
+        BookResponseDto shown = bookService.createBook(book("Shown", true), user.getId(), null);
+        assertThat(firstPageIds()).startsWith(shown.getId()).doesNotContain(hidden.getId());
+
+        bookService.updateBook(hidden.getId(), book("Hidden now public", true), user.getId(), null);
+        // 공개로 바뀐 책은 등록 시각 자리에 들어간다
+        assertThat(firstPageIds()).startsWith(shown.getId(), hidden.getId());
+        assertThat(bookService.getPublicFeed(null, 2).getContent().get(1).getTitle()).isEqualTo("Hidden now public");
+
+        bookService.updateBook(shown.getId(), book("Shown now private", false), user.getId(), null);
+        assertThat(firstPageIds()).doesNotContain(shown.getId());
+
+        bookService.deleteBook(hidden.getId(), user.getId());
+        assertThat(firstPageIds()).doesNotContain(hidden.getId());
+        assertThat(feedIds()).isEqualTo(databaseIds());
+    }
+
+    @Test
+    void pagesBeyondTheWindowFallBackToKeysetQueries() {
+        for (int i = 0; i < 7; i++) {
+            bookService.createBook(book("Public " + i, true), user.getId(), null);
+        }
+        assertThat(publicTimeline.size()).isEqualTo(4);
+
+        assertThat(feedIds()).isEqualTo(databaseIds());
+    }
+
+    @Test
+    void windowShrunkByDeletesIsRefilledInTheBackground() {
+        List<BookResponseDto> created = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            created.add(bookService.createBook(book("Public " + i, true), user.getId(), null));
+        }
+        assertThat(publicTimeline.size()).isEqualTo(4);
+
+        // 창의 절반 아래로 줄이면 삭제한 요청이 아니라 스케줄러가 DB 에서 다시 채운다
+        for (int i = 6; i >= 4; i--) {
+            bookService.deleteBook(created.get(i).getId(), user.getId());
+        }
+        await().atMost(5, TimeUnit.SECONDS).until(() -> publicTimeline.size() == 4);
+
+        assertThat(feedIds()).isEqualTo(databaseIds());
+    }
+
+    @Test
+    void readersNeverSeeAPartiallyUpdatedTimeline() throws Exception {
+        AtomicBoolean writing = new AtomicBoolean(true);
+        ExecutorService readers = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int r = 0; r < 4; r++) {
+                results.add(readers.submit(() -> {
+                    int reads = 0;
+                    while (writing.get()) {
+                        List<BookSummaryDto> page = bookService.getPublicFeed(null, 4).getContent();
+                        for (int i = 1; i < page.size(); i++) {
+                            assertThat(page.get(i - 1).getCreatedAt()).isAfterOrEqualTo(page.get(i).getCreatedAt());
+                            assertThat(page.get(i - 1).getId()).isNotEqualTo(page.get(i).getId());
+                        }
+                        reads++;
+                    }
+                    return reads;
+                }));
+            }
+            for (int i = 0; i < 20; i++) {
+                BookResponseDto created = bookService.createBook(book("Churn " + i, true), user.getId(), null);
+                if (i % 3 == 0) {
+                    bookService.deleteBook(created.getId(), user.getId());
+                }
+            }
+            writing.set(false);
+            for (Future<Integer> result : results) {
+                assertThat(result.get(10, TimeUnit.SECONDS)).isPositive();
+            }
+        } finally {
+            writing.set(false);
+            readers.shutdownNow();
+        }
+
+        assertThat(feedIds()).isEqualTo(databaseIds());
+    }
+
+    @Test
+    void changesDuringARefillAreNotBlockedByTheQueryAndAreKept() throws Exception {
+        BookRepository slowRepository = mock(BookRepository.class);
+        PublicTimeline timeline = new PublicTimeline(slowRepository, mock(TaskScheduler.class), 4);
+        LocalDateTime now = LocalDateTime.now();
+        BookSummary deletedDuringRefill = summary(1L, now.minusMinutes(1));
+        BookSummary createdDuringRefill = summary(2L, now);
+        CountDownLatch querying = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(slowRepository.findFirstPublicOrderByCreatedAt(any())).thenAnswer(invocation -> {
+            querying.countDown();
+            release.await();
+            return List.of(deletedDuringRefill);
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> refill = executor.submit(timeline::rebuild);
+            assertThat(querying.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // 다시 채우는 쿼리가 끝나기를 기다리지 않는다
+            executor.submit(() -> {
+                timeline.onBookChanged(new BookChangedEvent(7L, 2L,
+                    new BookSnapshot(2L, 7L, "New", null, null, null, now), createdDuringRefill));
+                timeline.onBookChanged(BookChangedEvent.deleted(7L, 1L));
+            }).get(5, TimeUnit.SECONDS);
+
+            release.countDown();
+            refill.get(5, TimeUnit.SECONDS);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+
+        assertThat(timeline.page(null, null, 4)).hasValueSatisfying(page ->
+            assertThat(page).extracting(BookSummary::id).containsExactly(2L));
+    }
+
+    private static BookSummary summary(Long id, LocalDateTime createdAt) {
+        return new BookSummary(id, "Book " + id, null, null, null, true, createdAt, "reader");
+    }
+
+    private List<Long> firstPageIds() {
+        return bookService.getPublicFeed(null, 3).getContent().stream().map(BookSummaryDto::getId).toList();
+    }
+
+    // 커서를 따라 끝까지 읽는다
+    private List<Long> feedIds() {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        CursorSliceDto<BookSummaryDto> slice;
+        do {
+            slice = bookService.getPublicFeed(cursor, 3);
+            slice.getContent().forEach(book -> ids.add(book.getId()));
+            cursor = slice.getNextCursor();
+        } while (slice.isHasNext());
+        return ids;
+    }
+
+    private List<Long> databaseIds() {
+        return bookRepository.findFirstPublicOrderByCreatedAt(Limit.unlimited()).stream()
+            .map(BookSummary::id)
+            .toList();
+    }
+}
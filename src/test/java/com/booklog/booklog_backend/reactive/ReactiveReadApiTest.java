@@ -0,0 +1,158 @@
+package com.booklog.booklog_backend.reactive;
+
+import com.booklog.booklog_backend.dto.BookResponseDto;
+import com.booklog.booklog_backend.entity.User;
+import com.booklog.booklog_backend.repository.UserRepository;
+import com.booklog.booklog_backend.security.JwtUtils;
+import com.booklog.booklog_backend.service.BookService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.List;
+import java.util.Random;
+
+import static com.booklog.booklog_backend.support.TestFixtures.book;
+import static com.booklog.booklog_backend.support.TestFixtures.saveUser;
+import static com.booklog.booklog_backend.support.TestFixtures.token;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {"reactive.enabled=true", "reactive.port=0"})
+@ActiveProfiles("test")
+class ReactiveReadApiTest {
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    @Autowired
+    private ReactiveReadServer reactiveReadServer;
+
+    private WebTestClient client;
+    private User user;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        client = WebTestClient.bindToServer().baseUrl("http://localhost:" + reactiveReadServer.port()).build();
+        user = saveUser(userRepository, "reactive");
+        token = token(jwtUtils, user);
+    }
+
+    @Test
+    void listPagesMatchTheBlockingApi() {
+        bookService.createBook(book("Dune", "Frank Herbert", true), user.getId(), null);
+        bookService.createBook(book("Solaris", "Stanisław Lem", true), user.getId(), null);
+        bookService.createBook(book("Anathem", "Neal Stephenson", false), user.getId(), null);
+        List<String> blocking = bookService.getUserBooks(user.getId(), null, "title", 0, 2).getContent().stream()
+            .map(book -> book.getTitle())
+            .toList();
+
+        client.get().uri("/api/books?sortBy=title&page=0&size=2")
+            .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.totalElements").isEqualTo(3)
+            .jsonPath("$.content[0].title").isEqualTo(blocking.get(0))
+            .jsonPath("$.content[1].title").isEqualTo(blocking.get(1))
+            .jsonPath("$.content[1].userNickname").isEqualTo("reactive");
+
+        // 검색은 같은 메모리 색인을 쓴다
+        client.get().uri("/api/books?search=solar")
+            .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.totalElements").isEqualTo(1)
+            .jsonPath("$.content[0].title").isEqualTo("Solaris");
+    }
+
+    @Test
+    void malformedPagingIsRejectedAndLargePagesAreCapped() {
+        for (String query : List.of("page=abc", "page=-1", "size=0", "size=-5", "size=1e3")) {
+            client.get().uri("/api/books?" + query)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.error").exists();
+        }
+
+        client.get().uri("/api/books?size=100000")
+            .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody().jsonPath("$.size").isEqualTo(BookService.MAX_PAGE_SIZE);
+    }
+
+    @Test
+    void detailFollowsTheSameAccessRules() {
+        BookResponseDto created = bookService.createBook(book("Dune", "Frank Herbert", true), user.getId(), null);
+        User other = saveUser(userRepository, "reactive");
+        BookResponseDto hidden = bookService.createBook(book("Hidden", "Someone", false), other.getId(), null);
+
+        BookResponseDto reactive = client.get().uri("/api/books/{id}", created.getId())
+            .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody(BookResponseDto.class)
+            .returnResult().getResponseBody();
+        // 생성 시각은 DB 에 저장된 정밀도로 읽히므로 따로 비교하지 않는다
+        assertThat(reactive).usingRecursiveComparison().ignoringFields("createdAt")
+            .isEqualTo(bookService.getBook(created.getId(), user.getId()));
+
+        client.get().uri("/api/books/{id}", hidden.getId())
+            .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+            .exchange()
+            .expectStatus().isBadRequest()
+            .expectBody().jsonPath("$.error").isEqualTo("Access denied");
+        client.get().uri("/api/books/{id}", created.getId())
+            .exchange()
+            .expectStatus().isForbidden();
+        // long 범위를 넘는 id 도 서블릿 API 처럼 400 으로 답한다
+        client.get().uri("/api/books/99999999999999999999")
+            .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+            .exchange()
+            .expectStatus().isBadRequest()
+            .expectBody().jsonPath("$.error").isEqualTo("Invalid id: 99999999999999999999");
+    }
+
+    @Test
+    void coverIsStreamedWithValidators() {
+        byte[] content = new byte[200 * 1024];
+        new Random(7).nextBytes(content);
+        BookResponseDto created = bookService.createBook(book("Covered", "Author", true), user.getId(),
+            new MockMultipartFile("coverImage", "cover.png", "image/png", content));
+
+        var result = client.get().uri(created.getCoverImageUrl())
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().contentType("image/png")
+            .expectHeader().valueEquals(HttpHeaders.CACHE_CONTROL, "public, max-age=31536000, immutable")
+            // 내용 주소 키로 만들고, 재사용 때 바뀌는 수정 시각은 보내지 않는다
+            .expectHeader().valueEquals(HttpHeaders.ETAG,
+                "\"" + created.getCoverImageUrl().substring("/api/images/".length()) + "\"")
+            .expectHeader().doesNotExist(HttpHeaders.LAST_MODIFIED)
+            .expectBody(byte[].class)
+            .returnResult();
+        assertThat(result.getResponseBody()).isEqualTo(content);
+
+        client.get().uri(created.getCoverImageUrl())
+            .header(HttpHeaders.IF_NONE_MATCH, result.getResponseHeaders().getETag())
+            .exchange()
+            .expectStatus().isNotModified();
+        client.get().uri("/api/images/missing.png")
+            .exchange()
+            .expectStatus().isNotFound();
+    }
+}
@@ -0,0 +1,134 @@
+package com.booklog.booklog_backend.repository;
+
+import com.booklog.booklog_backend.dto.BookDto;
+import com.booklog.booklog_backend.dto.BookResponseDto;
+import com.booklog.booklog_backend.dto.BookSummaryDto;
+import com.booklog.booklog_backend.entity.Book;
+import com.booklog.booklog_backend.entity.User;
+import com.booklog.booklog_backend.service.BookService;
+import com.booklog.booklog_backend.support.StatementBudget;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static com.booklog.booklog_backend.support.TestFixtures.book;
+import static com.booklog.booklog_backend.support.TestFixtures.saveUser;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class BookSecondLevelCacheTest {
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        owner = saveUser(userRepository, "cached");
+    }
+
+    @Test
+    void bookAndOwnerAreServedFromTheCacheAndRefreshedByUpdate() throws Exception {
+        BookResponseDto created = bookService.createBook(book("Before"), owner.getId(), null);
+
+        BookResponseDto cached = StatementBudget.within(0, () -> bookService.getBook(created.getId(), owner.getId()));
+        assertThat(cached.getUserNickname()).isEqualTo("cached");
+
+        bookService.updateBook(created.getId(), book("After"), owner.getId(), null);
+
+        // 수정은 이 책의 항목만 비우므로 한 번 다시 읽은 뒤에는 다시 캐시에서 나온다
+        BookResponseDto updated = StatementBudget.within(1, () -> bookService.getBook(created.getId(), owner.getId()));
+        assertThat(updated.getTitle()).isEqualTo("After");
+        assertThat(updated.getVersion()).isEqualTo(1L);
+        StatementBudget.within(0, () -> bookService.getBook(created.getId(), owner.getId()));
+    }
+
+    @Test
+    void writingOneBookKeepsTheOtherBooksCached() throws Exception {
+        BookResponseDto written = bookService.createBook(book("Written"), owner.getId(), null);
+        BookResponseDto deleted = bookService.createBook(book("Deleted"), owner.getId(), null);
+        BookResponseDto untouched = bookService.createBook(book("Untouched"), owner.getId(), null);
+        bookService.getBook(untouched.getId(), owner.getId());
+
+        bookService.updateBook(written.getId(), book("Rewritten"), owner.getId(), null);
+        bookService.deleteBook(deleted.getId(), owner.getId());
+
+        // JPQL 벌크 쓰기였다면 Book 영역 전체가 비워져 조회가 나갔을 것이다
+        BookResponseDto cached = StatementBudget.within(0, () -> bookService.getBook(untouched.getId(), owner.getId()));
+        assertThat(cached.getTitle()).isEqualTo("Untouched");
+    }
+
+    @Test
+    void deletedBookIsNotServedFromTheCache() {
+        BookResponseDto created = bookService.createBook(book("Doomed"), owner.getId(), null);
+        bookService.getBook(created.getId(), owner.getId());
+
+        bookService.deleteBook(created.getId(), owner.getId());
+
+        // 캐시에 남은 항목이 있었다면 삭제된 책이 그대로 보였을 것이다
+        assertThatThrownBy(() -> bookService.getBook(created.getId(), owner.getId()))
+            .hasMessage("Book not found");
+    }
+
+    @Test
+    void cachedListPagesAreInvalidatedByWrites() throws Exception {
+        BookResponseDto first = bookService.createBook(book("First"), owner.getId(), null);
+        bookService.createBook(book("Second"), owner.getId(), null);
+        bookService.getUserBooks(owner.getId(), null, "title", 0, 10);
+
+        StatementBudget.within(0, () -> bookService.getUserBooks(owner.getId(), null, "title", 0, 10));
+
+        bookService.updateBook(first.getId(), book("Third"), owner.getId(), null);
+        assertThat(bookService.getUserBooks(owner.getId(), null, "title", 0, 10).getContent())
+            .extracting(BookSummaryDto::getTitle).containsExactly("Second", "Third");
+
+        bookService.deleteBook(first.getId(), owner.getId());
+        assertThat(bookService.getUserBooks(owner.getId(), null, "title", 0, 10).getTotalElements()).isEqualTo(1);
+    }
+
+    @Test
+    void writeBasedOnAStaleCachedCopyIsRejectedAndEvicted() {
+        BookResponseDto created = bookService.createBook(book("Original"), owner.getId(), null);
+        bookService.getBook(created.getId(), owner.getId());
+        // 다른 노드의 수정 - 이 노드의 캐시는 모른다
+        jdbcTemplate.update("UPDATE books SET title = 'Elsewhere', version = version + 1 WHERE id = ?", created.getId());
+
+        // 이 노드에서 읽은 버전(0)으로 저장한다
+        BookDto mine = book("Mine");
+        mine.setVersion(created.getVersion());
+        assertThatThrownBy(() -> bookService.updateBook(created.getId(), mine, owner.getId(), null))
+            .hasMessage("Book was modified by another request");
+
+        BookResponseDto reloaded = bookService.getBook(created.getId(), owner.getId());
+        assertThat(reloaded.getTitle()).isEqualTo("Elsewhere");
+        assertThat(reloaded.getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    void cacheStatisticsArePublishedAsMetrics() {
+        BookResponseDto created = bookService.createBook(book("Counted"), owner.getId(), null);
+        bookService.getBook(created.getId(), owner.getId());
+
+        assertThat(meterRegistry.find("hibernate.second.level.cache.requests")
+            .tag("region", Book.class.getName())
+            .tag("result", "hit")
+            .functionCounter()
+            .count()).isPositive();
+    }
+}
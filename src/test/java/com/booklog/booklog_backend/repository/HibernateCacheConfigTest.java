@@ -0,0 +1,53 @@
+package com.booklog.booklog_backend.repository;
+
+import com.booklog.booklog_backend.entity.Book;
+import com.booklog.booklog_backend.entity.User;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.cache.CacheManager;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 다른 테스트는 컨텍스트마다 영역 접두어를 붙이고 없는 영역을 만들게 하므로 hibernate-cache.conf 를 읽지 않는다.
+ * 여기서는 운영 설정처럼 접두어 없이, 설정 파일에 없는 영역이 있으면 시작이 실패하도록 띄운다.
+ * 엔티티 이름과 설정 파일의 영역 이름이 어긋나면 컨텍스트가 뜨지 않는다.
+ */
+@SpringBootTest(properties = {
+    "spring.jpa.properties.hibernate.cache.region_prefix=",
+    "spring.jpa.properties.hibernate.javax.cache.missing_cache_strategy=fail"
+})
+@ActiveProfiles("test")
+class HibernateCacheConfigTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void regionsUseTheSizeAndExpiryFromTheConfigFile() {
+        CacheManager cacheManager = ((JCacheRegionFactory) entityManagerFactory
+            .unwrap(SessionFactoryImplementor.class).getCache().getRegionFactory()).getCacheManager();
+
+        CaffeineConfiguration<?, ?> book = configuration(cacheManager, Book.class.getName());
+        assertThat(book.getMaximumSize()).hasValue(10_000);
+        assertThat(book.getExpireAfterWrite()).hasValue(Duration.ofMinutes(10).toNanos());
+
+        assertThat(configuration(cacheManager, User.class.getName()).getExpireAfterWrite())
+            .hasValue(Duration.ofMinutes(30).toNanos());
+        assertThat(configuration(cacheManager, BookRepository.LIST_CACHE_REGION).getMaximumSize())
+            .hasValue(2_000);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static CaffeineConfiguration<?, ?> configuration(CacheManager cacheManager, String region) {
+        return cacheManager.getCache(region).getConfiguration(CaffeineConfiguration.class);
+    }
+}
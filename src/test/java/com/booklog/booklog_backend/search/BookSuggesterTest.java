@@ -0,0 +1,171 @@
+package com.booklog.booklog_backend.search;
+
+import com.booklog.booklog_backend.dto.BookResponseDto;
+import com.booklog.booklog_backend.dto.SuggestionDto;
+import com.booklog.booklog_backend.entity.User;
+import com.booklog.booklog_backend.repository.UserRepository;
+import com.booklog.booklog_backend.security.JwtUtils;
+import com.booklog.booklog_backend.service.BookService;
+import com.booklog.booklog_backend.support.StatementBudget;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.UUID;
+
+import static com.booklog.booklog_backend.support.TestFixtures.book;
+import static com.booklog.booklog_backend.support.TestFixtures.saveUser;
+import static com.booklog.booklog_backend.support.TestFixtures.token;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "suggest.max-results=3")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class BookSuggesterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BookSuggester bookSuggester;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = saveUser(userRepository, "suggest");
+    }
+
+    @Test
+    void ranksValuesByHowManyBooksShareThem() {
+        bookService.createBook(book("해리 포터와 마법사의 돌", "J.K. 롤링", "문학수첩", null, false), user.getId(), null);
+        bookService.createBook(book("해리 포터와 비밀의 방", "J.K. 롤링", "문학수첩", null, false), user.getId(), null);
+        bookService.createBook(book("해변의 카프카", "무라카미 하루키", "문학사상", null, false), user.getId(), null);
+
+        assertThat(suggest("문학")).extracting(SuggestionDto::getText, SuggestionDto::getCount)
+            .containsExactly(tuple("문학수첩", 2), tuple("문학사상", 1));
+        // 입력 중인 음절, 단어 중간부터, 초성
+        assertThat(suggest("해ㄹ")).extracting(SuggestionDto::getText)
+            .containsExactly("해리 포터와 비밀의 방", "해리 포터와 마법사의 돌");
+        assertThat(suggest("카프")).extracting(SuggestionDto::getText).containsExactly("해변의 카프카");
+        assertThat(suggest("ㅁㄹㅋㅁ")).extracting(SuggestionDto::getField).containsExactly("author");
+        // 최대 개수는 설정으로 제한된다
+        assertThat(bookSuggester.suggest(user.getId(), "ㅎ", false, 100)).hasSize(3);
+    }
+
+    @Test
+    void followsUpdatesAndDeletes() {
+        BookResponseDto first = bookService.createBook(book("Clean Code", "Robert Martin", null, null, false), user.getId(), null);
+        BookResponseDto second = bookService.createBook(book("Clean Architecture", "Robert Martin", null, null, false), user.getId(), null);
+        assertThat(suggest("rob")).extracting(SuggestionDto::getCount).containsExactly(2);
+
+        bookService.updateBook(first.getId(), book("Refactoring", "Martin Fowler", null, null, false), user.getId(), null);
+        assertThat(suggest("clean")).extracting(SuggestionDto::getText).containsExactly("Clean Architecture");
+        assertThat(suggest("martin")).extracting(SuggestionDto::getText).containsExactly("Martin Fowler", "Robert Martin");
+
+        bookService.deleteBook(second.getId(), user.getId());
+        assertThat(suggest("clean")).isEmpty();
+        assertThat(suggest("rob")).isEmpty();
+    }
+
+    @Test
+    void publicScopeCoversOnlyPublicBooksOfAllUsers() {
+        String marker = "Marker" + UUID.randomUUID().toString().substring(0, 8);
+        User other = saveUser(userRepository, "suggest");
+        bookService.createBook(book(marker + " Shared", "A", null, null, true), user.getId(), null);
+        BookResponseDto hidden = bookService.createBook(book(marker + " Hidden", "B", null, null, true), other.getId(), null);
+        bookService.createBook(book(marker + " Private", "C", null, null, false), other.getId(), null);
+
+        bookService.updateBook(hidden.getId(), book(marker + " Hidden", "B", null, null, false), other.getId(), null);
+
+        assertThat(bookSuggester.suggest(user.getId(), marker, true, 10)).extracting(SuggestionDto::getText)
+            .containsExactly(marker + " Shared");
+        assertThat(bookSuggester.suggest(other.getId(), marker, false, 10)).extracting(SuggestionDto::getText)
+            .containsExactly(marker + " Hidden", marker + " Private");
+    }
+
+    @Test
+    void rebuildFromTheDatabaseMatchesIncrementalUpdates() {
+        for (int i = 0; i < 12; i++) {
+            BookResponseDto created = bookService.createBook(
+                book("Book " + i, "Author " + (i % 3), "Publisher " + (i % 2), null, false), user.getId(), null);
+            if (i % 5 == 0) {
+                bookService.deleteBook(created.getId(), user.getId());
+            }
+        }
+        List<SuggestionDto> incremental = suggest("a");
+
+        bookSuggester.rebuild();
+
+        assertThat(suggest("a")).isEqualTo(incremental);
+    }
+
+    @Test
+    void shortPrefixesRankEveryMatchAndLongPrefixesScanABoundedRange() {
+        // 키를 3 개까지만 살펴보는 색인이라도 짧은 접두어는 정렬해 둔 목록에서 정확히 고른다
+        SuggestionIndex index = new SuggestionIndex(3);
+        long id = 0;
+        for (int i = 0; i < 10; i++) {
+            index.put(new SuggestEntry(++id, 1L, "a" + i, null, null, false));
+        }
+        // 키 순서로 맨 뒤에 있는 값이 가장 많다
+        index.put(new SuggestEntry(++id, 1L, "a9", null, null, false));
+        assertThat(index.suggest("a", 2)).extracting(SuggestionDto::getText, SuggestionDto::getCount)
+            .containsExactly(tuple("a9", 2), tuple("a0", 1));
+
+        index.put(new SuggestEntry(++id, 1L, "a5", null, null, false));
+        index.put(new SuggestEntry(++id, 1L, "a5", null, null, false));
+        assertThat(index.suggest("a", 2)).extracting(SuggestionDto::getText).containsExactly("a5", "a9");
+
+        index.put(new SuggestEntry(id, 1L, "b", null, null, false));
+        index.put(new SuggestEntry(id - 1, 1L, "b", null, null, false));
+        index.remove(10L);
+        index.remove(11L);
+        assertThat(index.suggest("a", 2)).extracting(SuggestionDto::getText, SuggestionDto::getCount)
+            .containsExactly(tuple("a0", 1), tuple("a1", 1));
+        assertThat(index.suggest("b", 2)).extracting(SuggestionDto::getCount).containsExactly(2);
+
+        // 긴 접두어는 앞의 3 개 키만 살펴본다
+        for (int i = 0; i < 10; i++) {
+            index.put(new SuggestEntry(++id, 1L, "abcd" + i, null, null, false));
+        }
+        assertThat(index.suggest("abcd", 10)).extracting(SuggestionDto::getText)
+            .containsExactly("abcd0", "abcd1", "abcd2");
+    }
+
+    @Test
+    void endpointAnswersWithoutQueries() throws Exception {
+        bookService.createBook(book("Dune", "Frank Herbert", "Ace", null, false), user.getId(), null);
+        String token = token(jwtUtils, user);
+
+        StatementBudget.within(0, () -> mockMvc.perform(get("/api/books/suggest")
+                .param("q", "du")
+                .header("Authorization", "Bearer " + token))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].field").value("title"))
+            .andExpect(jsonPath("$[0].text").value("Dune"))
+            .andExpect(jsonPath("$.length()").value(1)));
+    }
+
+    private List<SuggestionDto> suggest(String query) {
+        return bookSuggester.suggest(user.getId(), query, false, 10);
+    }
+}
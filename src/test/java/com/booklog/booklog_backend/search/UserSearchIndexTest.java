@@ -0,0 +1,131 @@
+package com.booklog.booklog_backend.search;
+
+import com.booklog.booklog_backend.event.BookSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserSearchIndexTest {
+    private static final LocalDateTime CREATED = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+    private UserSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new UserSearchIndex();
+        index.put(book(1L, "해리 포터와 마법사의 돌", "J.K. 롤링", "문학수첩", "호그와트에 가는 이야기"));
+        index.put(book(2L, "한국사 편지", "박은봉", "책과함께", null));
+        index.put(book(3L, "닭털 침낭", "김훈", "문학동네", null));
+        index.put(book(4L, "Clean Code", "Robert C. Martin", "인사이트", "읽기 좋은 코드"));
+    }
+
+    @Test
+    void syllableBeingTypedMatchesAsPrefix() {
+        assertThat(search("한구")).containsExactly(2L);
+        assertThat(search("한ㄱ")).containsExactly(2L);
+        assertThat(search("해리 포")).containsExactly(1L);
+    }
+
+    @Test
+    void compoundVowelsAndFinalClustersMatchPartway() {
+        // "와" 를 치는 중의 "오", "닭" 을 치는 중의 "달"
+        assertThat(search("포터오")).containsExactly(1L);
+        assertThat(search("달")).containsExactly(3L);
+        assertThat(search("호그")).containsExactly(1L);
+    }
+
+    @Test
+    void initialsMatchTitleAndAuthor() {
+        assertThat(search("ㅎㄹㅍㅌ")).containsExactly(1L);
+        assertThat(search("ㅎㄱ")).containsExactly(2L);
+        assertThat(search("ㄱㅎ")).containsExactly(3L);
+        assertThat(search("ㄷㅌ ㅊㄴ")).containsExactly(3L);
+        // 출판사와 독후감은 초성으로 찾지 않는다
+        assertThat(search("ㅁㅎㅅㅊ")).isEmpty();
+    }
+
+    @Test
+    void decomposedInputIsComposedFirst() {
+        assertThat(search(Normalizer.normalize("한국사", Normalizer.Form.NFD))).containsExactly(2L);
+    }
+
+    @Test
+    void latinTermsAreUnaffected() {
+        assertThat(search("clea")).containsExactly(4L);
+        assertThat(search("martin 코드")).containsExactly(4L);
+    }
+
+    @Test
+    void updatesReplaceJamoAndInitialTerms() {
+        index.put(book(2L, "세계사 편지", "박은봉", "책과함께", null));
+        assertThat(search("한구")).isEmpty();
+        assertThat(search("ㅅㄱㅅ")).containsExactly(2L);
+
+        index.remove(2L);
+        assertThat(search("ㅅㄱㅅ")).isEmpty();
+        assertThat(search("편")).isEmpty();
+    }
+
+    @Test
+    void infixMatchesInsideCompoundWords() {
+        index.put(book(5L, "해리포터 전집", "롤링", null, null));
+        index.put(book(6L, "포터 이야기", "Anonymous", null, null));
+
+        assertThat(search("포터")).containsExactly(6L, 1L, 5L);
+        assertThat(search("리포")).containsExactly(5L);
+        index.put(book(7L, "Barcode", "Someone", null, null));
+        assertThat(search("code")).containsExactly(4L, 7L);
+    }
+
+    @Test
+    void sortByOrdersMatchesInsteadOfScore() {
+        index.put(book(5L, "코드 모음", "가", null, null));
+        index.put(book(6L, "가나다", "하", null, "코드 이야기"));
+
+        assertThat(search("코드", SearchOrder.RELEVANCE)).containsExactly(5L, 6L, 4L);
+        assertThat(search("코드", SearchOrder.DATE)).containsExactly(6L, 5L, 4L);
+        assertThat(search("코드", SearchOrder.TITLE)).containsExactly(4L, 6L, 5L);
+        assertThat(search("코드", SearchOrder.AUTHOR)).containsExactly(4L, 5L, 6L);
+    }
+
+    @Test
+    void dateOrderFollowsCreationTimeNotId() {
+        // 다른 노드가 미리 받아 둔 작은 ID 로 나중에 등록한 책
+        index.put(new BookSnapshot(5L, 7L, "코드 리뷰", null, null, null, CREATED.plusDays(1)));
+        index.put(new BookSnapshot(6L, 7L, "코드 읽기", null, null, null, CREATED.plusDays(1)));
+
+        assertThat(search("코드", SearchOrder.DATE)).containsExactly(6L, 5L, 4L);
+        index.put(new BookSnapshot(9L, 7L, "코드 정리", null, null, null, CREATED));
+        assertThat(search("코드", SearchOrder.DATE)).containsExactly(6L, 5L, 4L, 9L);
+    }
+
+    @Test
+    void farPagesAreEmptyInsteadOfOverflowing() {
+        List<String> tokens = List.of(SearchTokenizer.queryTerm("코드"));
+        SearchHits hits = index.search(tokens, SearchOrder.DATE, Integer.MAX_VALUE / 2, 10);
+
+        assertThat(hits.ids()).isEmpty();
+        assertThat(hits.total()).isEqualTo(1);
+    }
+
+    private List<Long> search(String query) {
+        return search(query, SearchOrder.RELEVANCE);
+    }
+
+    private List<Long> search(String query, SearchOrder order) {
+        List<String> tokens = SearchTokenizer.tokenize(query).stream()
+            .map(SearchTokenizer::queryTerm)
+            .toList();
+        return index.search(tokens, order, 0, 10).ids();
+    }
+
+    private static BookSnapshot book(Long id, String title, String author, String publisher, String review) {
+        // 기본으로는 ID 가 클수록 나중에 등록된 책
+        return new BookSnapshot(id, 7L, title, author, publisher, review, CREATED.plusMinutes(id));
+    }
+}
@@ -0,0 +1,91 @@
+package com.booklog.booklog_backend.security;
+
+import com.booklog.booklog_backend.entity.User;
+import com.booklog.booklog_backend.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static com.booklog.booklog_backend.support.TestFixtures.saveUser;
+import static com.booklog.booklog_backend.support.TestFixtures.token;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class AuthTokenFilterTest {
+
+    @Autowired
+    private AuthTokenFilter authTokenFilter;
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        user = saveUser(userRepository, "filter");
+        token = token(jwtUtils, user);
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void renamedUserIsServedFreshDetails() throws Exception {
+        assertThat(nicknameOf(authenticate(token))).isEqualTo("filter");
+
+        user.setNickname("renamed");
+        userRepository.save(user);
+
+        assertThat(nicknameOf(authenticate(token))).isEqualTo("renamed");
+    }
+
+    @Test
+    void deletedUserIsNoLongerAuthenticated() throws Exception {
+        assertThat(authenticate(token)).isNotNull();
+
+        userRepository.delete(user);
+
+        assertThat(authenticate(token)).isNull();
+    }
+
+    @Test
+    void tokenForAChangedEmailIsNoLongerAuthenticated() throws Exception {
+        assertThat(authenticate(token)).isNotNull();
+
+        user.setEmail("moved-" + UUID.randomUUID() + "@booklog.test");
+        userRepository.save(user);
+
+        assertThat(authenticate(token)).isNull();
+        assertThat(authenticate(token(jwtUtils, user))).isNotNull();
+    }
+
+    private Authentication authenticate(String jwt) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/books");
+        request.addHeader("Authorization", "Bearer " + jwt);
+        authTokenFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    private static String nicknameOf(Authentication authentication) {
+        return ((UserDetailsImpl) authentication.getPrincipal()).getNickname();
+    }
+}
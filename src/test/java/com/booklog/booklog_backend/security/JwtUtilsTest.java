@@ -0,0 +1,85 @@
+package com.booklog.booklog_backend.security;
+
+import com.booklog.booklog_backend.entity.User;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Optional;
+
+import static com.booklog.booklog_backend.support.TestFixtures.jwtUtils;
+import static com.booklog.booklog_backend.support.TestFixtures.newUser;
+import static com.booklog.booklog_backend.support.TestFixtures.token;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtUtilsTest {
+
+    private JwtUtils jwtUtils;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtils = jwtUtils(60_000, 100);
+        user = newUser("jwt");
+        user.setId(42L);
+    }
+
+    @Test
+    void verifiedClaimsCarryTheUserIdAndAreCached() {
+        String token = token(jwtUtils, user);
+
+        Optional<JwtClaims> first = jwtUtils.verify(token);
+        Optional<JwtClaims> second = jwtUtils.verify(token);
+
+        assertThat(first).hasValueSatisfying(claims -> {
+            assertThat(claims.userId()).isEqualTo(42L);
+            assertThat(claims.email()).isEqualTo(user.getEmail());
+        });
+        // 두 번째는 파싱하지 않고 캐시된 클레임을 그대로 돌려준다
+        assertThat(second.get()).isSameAs(first.get());
+    }
+
+    @Test
+    void expiredTokenIsRejected() {
+        String token = token(jwtUtils(-1_000, 100), user);
+
+        assertThat(jwtUtils.verify(token)).isEmpty();
+        assertThat(jwtUtils.validateJwtToken(token)).isFalse();
+    }
+
+    @Test
+    void tamperedTokenIsRejectedEvenAfterTheOriginalWasCached() {
+        String token = token(jwtUtils, user);
+        assertThat(jwtUtils.verify(token)).isPresent();
+
+        // 서명은 그대로 두고 본문의 이메일만 바꾼다
+        String[] parts = token.split("\\.");
+        String payload = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8)
+            .replace(user.getEmail(), "intruder@booklog.test");
+        String tampered = parts[0] + "."
+            + Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes(StandardCharsets.UTF_8))
+            + "." + parts[2];
+
+        assertThat(jwtUtils.verify(tampered)).isEmpty();
+    }
+
+    @Test
+    void tokenSignedWithAnotherKeyIsRejected() {
+        String forged = Jwts.builder()
+            .setSubject(user.getEmail())
+            .claim("uid", 42L)
+            .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+            .signWith(Keys.hmacShaKeyFor("another-secret-key-that-is-long-enough-for-hs256".getBytes()),
+                SignatureAlgorithm.HS256)
+            .compact();
+
+        assertThat(jwtUtils.verify(forged)).isEmpty();
+        assertThat(jwtUtils.verify("not-a-token")).isEmpty();
+        assertThat(jwtUtils.verify("")).isEmpty();
+    }
+}
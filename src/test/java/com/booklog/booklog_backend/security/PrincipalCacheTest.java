@@ -0,0 +1,94 @@
+package com.booklog.booklog_backend.security;
+
+import com.booklog.booklog_backend.entity.User;
+import com.booklog.booklog_backend.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static com.booklog.booklog_backend.support.TestFixtures.saveUser;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class PrincipalCacheTest {
+
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Autowired
+    private UserDetailsServiceImpl userDetailsService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private Function<String, UserDetailsImpl> loader;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        loader = email -> {
+            loads.incrementAndGet();
+            return userDetailsService.loadUserByUsername(email);
+        };
+        user = saveUser(userRepository, "principal");
+    }
+
+    @Test
+    void loadsOnceAndServesLaterLookupsFromTheCache() {
+        UserDetailsImpl first = principalCache.getByEmail(user.getEmail(), loader);
+        UserDetailsImpl second = principalCache.getByEmail(user.getEmail(), loader);
+
+        assertThat(first.getId()).isEqualTo(user.getId());
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void userUpdateEvictsTheCachedPrincipal() {
+        principalCache.getByEmail(user.getEmail(), loader);
+
+        user.setNickname("renamed");
+        userRepository.save(user);
+
+        assertThat(principalCache.getByEmail(user.getEmail(), loader).getNickname()).isEqualTo("renamed");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void oldEmailIsNotServedAfterTheEmailChanges() {
+        String oldEmail = user.getEmail();
+        principalCache.getByEmail(oldEmail, loader);
+
+        user.setEmail("moved-" + UUID.randomUUID() + "@booklog.test");
+        userRepository.save(user);
+        assertThat(principalCache.getByEmail(user.getEmail(), loader).getId()).isEqualTo(user.getId());
+
+        assertThatThrownBy(() -> principalCache.getByEmail(oldEmail, loader))
+            .isInstanceOf(UsernameNotFoundException.class);
+    }
+
+    @Test
+    void principalReadBeforeAnEvictionIsNotKeptInTheCache() {
+        // 읽는 도중 사용자가 바뀌어 무효화되면, 읽은 값은 변경 전일 수 있으므로 남기지 않는다
+        principalCache.getById(user.getId(), id -> {
+            Optional<UserDetailsImpl> stale = userDetailsService.loadUserById(id);
+            principalCache.evictUser(id);
+            return stale;
+        });
+
+        assertThat(principalCache.getIfPresent(user.getId())).isEmpty();
+        assertThat(principalCache.getById(user.getId(), userDetailsService::loadUserById)).isPresent();
+        assertThat(principalCache.getIfPresent(user.getId())).isPresent();
+    }
+}
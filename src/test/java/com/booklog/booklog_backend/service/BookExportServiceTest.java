@@ -0,0 +1,177 @@
+package com.booklog.booklog_backend.service;
+
+import com.booklog.booklog_backend.dto.BookDto;
+import com.booklog.booklog_backend.dto.BookImportResultDto;
+import com.booklog.booklog_backend.entity.Book;
+import com.booklog.booklog_backend.entity.User;
+import com.booklog.booklog_backend.repository.BookRepository;
+import com.booklog.booklog_backend.repository.UserRepository;
+import com.booklog.booklog_backend.security.JwtUtils;
+import com.booklog.booklog_backend.support.StatementBudget;
+import com.booklog.booklog_backend.transfer.ExportFormat;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+
+import static com.booklog.booklog_backend.support.TestFixtures.book;
+import static com.booklog.booklog_backend.support.TestFixtures.saveUser;
+import static com.booklog.booklog_backend.support.TestFixtures.token;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class BookExportServiceTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BookExportService bookExportService;
+
+    @Autowired
+    private BookImportService bookImportService;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void exportDoesNotFillTheSecondLevelCache() throws Exception {
+        User owner = saveUser(userRepository, "exporter");
+        Long first = bookService.createBook(book("First"), owner.getId(), null).getId();
+        Long second = bookService.createBook(book("Second"), owner.getId(), null).getId();
+        entityManagerFactory.getCache().evict(Book.class);
+
+        bookExportService.export(owner.getId(), ExportFormat.NDJSON, OutputStream.nullOutputStream());
+
+        assertThat(entityManagerFactory.getCache().contains(Book.class, first)).isFalse();
+        assertThat(entityManagerFactory.getCache().contains(Book.class, second)).isFalse();
+    }
+
+    @Test
+    void csvExportCanBeImportedAgain() throws Exception {
+        User owner = saveUser(userRepository, "exporter");
+        BookDto tricky = book("Commas, \"quotes\"");
+        tricky.setReview("첫 줄\n둘째 줄");
+        tricky.setReadDate(LocalDate.of(2024, 5, 17));
+        tricky.setIsPublic(false);
+        bookService.createBook(tricky, owner.getId(), null);
+        bookService.createBook(book("Plain"), owner.getId(), null);
+
+        ByteArrayOutputStream csv = new ByteArrayOutputStream();
+        assertThat(bookExportService.export(owner.getId(), ExportFormat.CSV, csv)).isEqualTo(2);
+
+        User copy = saveUser(userRepository, "exporter");
+        BookImportResultDto result = bookImportService.importBooks(
+            copy.getId(), BookImportService.TEXT_CSV, new ByteArrayInputStream(csv.toByteArray()));
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getFailed()).isZero();
+
+        assertThat(booksOf(copy))
+            .usingRecursiveFieldByFieldElementComparatorOnFields(
+                "title", "author", "review", "readDate", "isPublic")
+            .containsExactlyElementsOf(booksOf(owner));
+    }
+
+    @Test
+    void ndjsonIsStreamedFromASingleQuery() throws Exception {
+        User owner = saveUser(userRepository, "exporter");
+        int rows = 5_000;
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < rows; i++) {
+            ndjson.append("{\"title\":\"Book ").append(i).append("\",\"author\":\"Author\"}\n");
+        }
+        bookImportService.importBooks(owner.getId(), BookImportService.APPLICATION_NDJSON,
+            new ByteArrayInputStream(ndjson.toString().getBytes(StandardCharsets.UTF_8)));
+
+        LineCounter out = new LineCounter();
+        long exported = StatementBudget.within(1, () -> bookExportService.export(owner.getId(), ExportFormat.NDJSON, out));
+
+        assertThat(exported).isEqualTo(rows);
+        assertThat(out.lines).isEqualTo(rows);
+        JsonNode first = objectMapper.readTree(out.firstLine.toString(StandardCharsets.UTF_8));
+        assertThat(first.get("title").asText()).isEqualTo("Book 0");
+        assertThat(first.get("isPublic").asBoolean()).isTrue();
+        assertThat(first.has("readDate")).isFalse();
+    }
+
+    @Test
+    void endpointSendsADownloadForTheCurrentUserOnly() throws Exception {
+        User owner = saveUser(userRepository, "exporter");
+        User other = saveUser(userRepository, "exporter");
+        bookService.createBook(book("Mine"), owner.getId(), null);
+        bookService.createBook(book("Not mine"), other.getId(), null);
+        String token = token(jwtUtils, owner);
+
+        String body = mockMvc.perform(get("/api/books/export")
+                .param("format", "csv")
+                .header("Authorization", "Bearer " + token))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Type", "text/csv;charset=UTF-8"))
+            .andExpect(header().string("Content-Disposition", "attachment; filename=\"booklog-books.csv\""))
+            .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        assertThat(body).startsWith("\uFEFFtitle,author,publisher,readDate,isPublic,");
+        assertThat(body).contains("Mine,Author").doesNotContain("Not mine");
+
+        mockMvc.perform(get("/api/books/export")
+                .param("format", "xml")
+                .header("Authorization", "Bearer " + token))
+            .andExpect(status().isBadRequest());
+    }
+
+    private List<Book> booksOf(User user) {
+        return bookRepository.findAll().stream()
+            .filter(book -> book.getUser().getId().equals(user.getId()))
+            .sorted(Comparator.comparing(Book::getTitle))
+            .toList();
+    }
+
+    // 내용을 쌓아 두지 않고 줄 수만 센다 (첫 줄만 보관)
+    private static final class LineCounter extends OutputStream {
+        private final ByteArrayOutputStream firstLine = new ByteArrayOutputStream();
+        private long lines;
+
+        @Override
+        public void write(int b) {
+            if (lines == 0 && b != '\n') {
+                firstLine.write(b);
+            }
+            if (b == '\n') {
+                lines++;
+            }
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.booklog.booklog_backend.service;
+
+import com.booklog.booklog_backend.dto.BookImportResultDto;
+import com.booklog.booklog_backend.dto.BookImportResultDto.RowError;
+import com.booklog.booklog_backend.entity.Book;
+import com.booklog.booklog_backend.entity.User;
+import com.booklog.booklog_backend.repository.BookRepository;
+import com.booklog.booklog_backend.repository.UserRepository;
+import com.booklog.booklog_backend.security.JwtUtils;
+import com.booklog.booklog_backend.support.StatementBudget;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Enumeration;
+import java.util.List;
+
+import static com.booklog.booklog_backend.support.TestFixtures.saveUser;
+import static com.booklog.booklog_backend.support.TestFixtures.token;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class BookImportServiceTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BookImportService bookImportService;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    @Test
+    void csvRowsAreValidatedAndReportedByRowNumber() {
+        User user = saveUser(userRepository, "importer");
+        String csv = """
+            title,author,read_date,isPublic,review
+            "Dune, Part One",Frank Herbert,2024-03-01,false,"He said ""fear""
+            is the mind-killer"
+            ,No Title,,,
+            Bad Date,Someone,03/01/2024,,
+
+            Valid,Author,,,
+            """;
+
+        BookImportResultDto result = bookImportService.importBooks(
+            user.getId(), BookImportService.TEXT_CSV, stream(csv));
+
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getFailed()).isEqualTo(2);
+        assertThat(result.getErrors()).extracting(RowError::getRow).containsExactly(2L, 3L);
+        assertThat(result.getErrors().get(0).getMessage()).isEqualTo("책 제목은 필수입니다.");
+
+        List<Book> books = bookRepository.findAll().stream()
+            .filter(book -> book.getUser().getId().equals(user.getId()))
+            .toList();
+        Book dune = books.stream().filter(book -> book.getTitle().startsWith("Dune")).findFirst().orElseThrow();
+        assertThat(dune.getTitle()).isEqualTo("Dune, Part One");
+        assertThat(dune.getReadDate()).isEqualTo(LocalDate.of(2024, 3, 1));
+        assertThat(dune.getIsPublic()).isFalse();
+        assertThat(dune.getReview()).isEqualTo("He said \"fear\"\nis the mind-killer");
+        assertThat(books).extracting(Book::getTitle).contains("Valid");
+    }
+
+    @Test
+    void ndjsonImportIsSearchableImmediately() throws Exception {
+        User user = saveUser(userRepository, "importer");
+        String token = token(jwtUtils, user);
+        String ndjson = """
+            {"title":"Solaris","author":"Stanisław Lem","readDate":"2023-11-05"}
+            {"title":"broken"
+            {"author":"Nobody"}
+            """;
+
+        mockMvc.perform(post("/api/books/import")
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(ndjson))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.imported").value(1))
+            .andExpect(jsonPath("$.failed").value(2))
+            .andExpect(jsonPath("$.errors[0].row").value(2))
+            .andExpect(jsonPath("$.errors[1].row").value(3));
+
+        assertThat(bookService.getUserBooks(user.getId(), "solaris", "date", 0, 10).getContent())
+            .extracting("title").containsExactly("Solaris");
+    }
+
+    @Test
+    void largeImportsAreInsertedInJdbcBatches() throws Exception {
+        User user = saveUser(userRepository, "importer");
+        int rows = 20_000;
+
+        BookImportResultDto result = StatementBudget.within(rows / 20, () ->
+            bookImportService.importBooks(user.getId(), BookImportService.TEXT_CSV, generatedCsv(rows)));
+
+        assertThat(result.getImported()).isEqualTo(rows);
+        assertThat(result.getFailed()).isZero();
+        assertThat(bookRepository.countByUserId(user.getId())).isEqualTo(rows);
+        assertThat(bookRepository.findSummariesByUserId(user.getId(), PageRequest.of(0, 1)).getTotalElements())
+            .isEqualTo(rows);
+    }
+
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 전체 본문을 만들지 않고 행을 하나씩 이어 붙인다
+    private static InputStream generatedCsv(int rows) {
+        return new SequenceInputStream(new Enumeration<>() {
+            private int next = -1;
+
+            @Override
+            public boolean hasMoreElements() {
+                return next < rows;
+            }
+
+            @Override
+            public InputStream nextElement() {
+                String line = next < 0 ? "title,author\n" : "Book " + next + ",Author " + (next % 100) + "\n";
+                next++;
+                return stream(line);
+            }
+        });
+    }
+}
@@ -0,0 +1,167 @@
+package com.booklog.booklog_backend.service;
+
+import com.booklog.booklog_backend.entity.User;
+import com.booklog.booklog_backend.repository.UserRepository;
+import com.booklog.booklog_backend.storage.LocalBlobStorage;
+import com.booklog.booklog_backend.support.UploadSnapshot;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.booklog.booklog_backend.support.TestFixtures.book;
+import static com.booklog.booklog_backend.support.TestFixtures.saveUser;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 커넥션 풀보다 많은 업로드가 본문을 읽는 도중에 멈춰 있는 동안 커넥션을 하나도 잡고 있지 않아
+ * 목록 조회가 커넥션을 기다리지 않는지 확인한다. 업로드는 래치로 멈추고 풀어 준다.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.hikari.maximum-pool-size=2",
+    // 커넥션을 잡고 있으면 조회가 오래 기다리지 않고 바로 실패하게 한다
+    "spring.datasource.hikari.connection-timeout=1000"
+})
+@ActiveProfiles("test")
+class BookServiceUploadConcurrencyTest {
+    private static final int UPLOADS = 4;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LocalBlobStorage localStorage;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private CoverReclaimer coverReclaimer;
+
+    private UploadSnapshot uploads;
+
+    @BeforeEach
+    void rememberUploads() throws IOException {
+        uploads = UploadSnapshot.of(localStorage.root());
+    }
+
+    @AfterEach
+    void removeUploads() throws IOException {
+        uploads.restore();
+    }
+
+    @Test
+    void noConnectionIsHeldWhileUploadsAreInFlight() throws Exception {
+        User user = saveUser(userRepository, "uploader");
+        bookService.createBook(book("Warm up"), user.getId(), null);
+        HikariPoolMXBean pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+
+        CountDownLatch reading = new CountDownLatch(UPLOADS);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService uploaders = Executors.newFixedThreadPool(UPLOADS);
+        try {
+            List<Future<?>> uploads = new ArrayList<>();
+            for (int i = 0; i < UPLOADS; i++) {
+                int n = i;
+                uploads.add(uploaders.submit(() ->
+                    bookService.createBook(book("Upload " + n), user.getId(), blockedCover(reading, release))));
+            }
+
+            // 모든 업로드가 본문을 읽는 중에 멈춰 있다
+            assertThat(reading.await(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(pool.getActiveConnections()).isZero();
+            for (int i = 0; i < UPLOADS; i++) {
+                assertThat(bookService.getUserBooks(user.getId(), null, "date", 0, 10).getTotalElements()).isEqualTo(1);
+            }
+            assertThat(uploads).noneMatch(Future::isDone);
+
+            release.countDown();
+            for (Future<?> upload : uploads) {
+                upload.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            release.countDown();
+            uploaders.shutdownNow();
+        }
+
+        assertThat(bookService.getUserBooks(user.getId(), null, "date", 0, 10).getTotalElements())
+            .isEqualTo(UPLOADS + 1);
+    }
+
+    @Test
+    void storedCoverIsLeftForTheReclaimerWhenTheWriteFails() throws IOException {
+        MockMultipartFile cover = new MockMultipartFile("coverImage", "cover.jpg", "image/jpeg", new byte[128]);
+
+        assertThatThrownBy(() -> bookService.createBook(book("Orphan"), -1L, cover))
+            .hasMessage("User not found");
+        // 요청 중에는 지우지 않고, 고정이 풀렸으므로 유예 기간이 지나면 정리된다
+        assertThat(uploads.added()).hasSize(1);
+        coverReclaimer.reclaim(Instant.now().plusSeconds(60));
+        assertThat(uploads.added()).isEmpty();
+    }
+
+    // 느린 클라이언트처럼 본문을 처음 읽을 때 release 가 열릴 때까지 멈추는 업로드
+    private static MockMultipartFile blockedCover(CountDownLatch reading, CountDownLatch release) {
+        byte[] content = new byte[1024];
+        return new MockMultipartFile("coverImage", "slow.jpg", "image/jpeg", content) {
+            @Override
+            public InputStream getInputStream() {
+                return new InputStream() {
+                    private int position = 0;
+
+                    @Override
+                    public int read() {
+                        if (position == 0) {
+                            block();
+                        }
+                        return position < content.length ? content[position++] & 0xff : -1;
+                    }
+
+                    @Override
+                    public int read(byte[] b, int off, int len) {
+                        if (position >= content.length) {
+                            return -1;
+                        }
+                        if (position == 0) {
+                            block();
+                        }
+                        int n = Math.min(len, content.length - position);
+                        System.arraycopy(content, position, b, off, n);
+                        position += n;
+                        return n;
+                    }
+
+                    private void block() {
+                        reading.countDown();
+                        try {
+                            release.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                };
+            }
+        };
+    }
+}
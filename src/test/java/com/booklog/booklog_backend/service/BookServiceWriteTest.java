@@ -0,0 +1,107 @@
+package com.booklog.booklog_backend.service;
+
+import com.booklog.booklog_backend.dto.BookDto;
+import com.booklog.booklog_backend.dto.BookResponseDto;
+import com.booklog.booklog_backend.entity.User;
+import com.booklog.booklog_backend.repository.BookRepository;
+import com.booklog.booklog_backend.repository.UserRepository;
+import com.booklog.booklog_backend.support.StatementBudget;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static com.booklog.booklog_backend.support.TestFixtures.book;
+import static com.booklog.booklog_backend.support.TestFixtures.saveUser;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class BookServiceWriteTest {
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User owner;
+    private User stranger;
+
+    @BeforeEach
+    void setUp() {
+        owner = saveUser(userRepository, "owner");
+        stranger = saveUser(userRepository, "stranger");
+    }
+
+    @Test
+    void updateIsOneConditionalWritePlusTheResponseRead() throws Exception {
+        BookResponseDto created = bookService.createBook(versioned("Before", null), owner.getId(), null);
+        assertThat(created.getVersion()).isZero();
+
+        // 먼저 읽어 소유자를 확인하지 않는다. 조건부 UPDATE 는 JdbcTemplate 로 나가 세지 않으므로
+        // Hibernate 쪽에서는 응답을 만드는 조회 하나만 남는다
+        BookResponseDto updated = StatementBudget.within(1, () ->
+            bookService.updateBook(created.getId(), versioned("After", created.getVersion()), owner.getId(), null));
+
+        assertThat(updated.getTitle()).isEqualTo("After");
+        assertThat(updated.getVersion()).isEqualTo(1L);
+        assertThat(updated.getUserNickname()).isEqualTo("owner");
+    }
+
+    @Test
+    void staleVersionLosesInsteadOfOverwriting() {
+        BookResponseDto created = bookService.createBook(versioned("Original", null), owner.getId(), null);
+        // 두 탭이 같은 버전을 읽고 차례로 저장한다
+        bookService.updateBook(created.getId(), versioned("First tab", created.getVersion()), owner.getId(), null);
+
+        assertThatThrownBy(() ->
+            bookService.updateBook(created.getId(), versioned("Second tab", created.getVersion()), owner.getId(), null))
+            .hasMessage("Book was modified by another request");
+        assertThat(bookRepository.findById(created.getId()).orElseThrow().getTitle()).isEqualTo("First tab");
+
+        // 버전을 보내지 않는 클라이언트는 예전처럼 덮어쓴다
+        bookService.updateBook(created.getId(), versioned("Unversioned", null), owner.getId(), null);
+        assertThat(bookRepository.findById(created.getId()).orElseThrow().getVersion()).isEqualTo(2L);
+    }
+
+    @Test
+    void rejectedWritesTellNotFoundFromForbidden() {
+        BookResponseDto created = bookService.createBook(versioned("Mine", null), owner.getId(), null);
+
+        assertThatThrownBy(() -> bookService.updateBook(created.getId(), versioned("Hijacked", null), stranger.getId(), null))
+            .hasMessage("Access denied");
+        assertThatThrownBy(() -> bookService.deleteBook(created.getId(), stranger.getId()))
+            .hasMessage("Access denied");
+        assertThat(bookRepository.findById(created.getId()).orElseThrow().getTitle()).isEqualTo("Mine");
+
+        assertThatThrownBy(() -> bookService.updateBook(Long.MAX_VALUE, versioned("Ghost", null), owner.getId(), null))
+            .hasMessage("Book not found");
+        assertThatThrownBy(() -> bookService.deleteBook(Long.MAX_VALUE, owner.getId()))
+            .hasMessage("Book not found");
+    }
+
+    @Test
+    void deleteIsOneConditionalWrite() throws Exception {
+        BookResponseDto created = bookService.createBook(versioned("Doomed", null), owner.getId(), null);
+
+        // 조건부 DELETE 만 나가고 (JdbcTemplate 라 세지 않는다) 삭제 전 조회는 없다
+        StatementBudget.within(0, () -> {
+            bookService.deleteBook(created.getId(), owner.getId());
+            return null;
+        });
+
+        assertThat(bookRepository.findById(created.getId())).isEmpty();
+    }
+
+    private static BookDto versioned(String title, Long version) {
+        BookDto dto = book(title);
+        dto.setVersion(version);
+        return dto;
+    }
+}
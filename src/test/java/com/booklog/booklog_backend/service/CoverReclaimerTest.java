@@ -0,0 +1,132 @@
+package com.booklog.booklog_backend.service;
+
+import com.booklog.booklog_backend.entity.Book;
+import com.booklog.booklog_backend.entity.User;
+import com.booklog.booklog_backend.repository.BookRepository;
+import com.booklog.booklog_backend.repository.UserRepository;
+import com.booklog.booklog_backend.storage.LocalBlobStorage;
+import com.booklog.booklog_backend.support.UploadSnapshot;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.booklog.booklog_backend.support.TestFixtures.saveUser;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CoverReclaimerTest {
+    private static final Instant TWO_DAYS_AGO = Instant.now().minus(Duration.ofDays(2));
+
+    @Autowired
+    private CoverReclaimer coverReclaimer;
+
+    @Autowired
+    private CoverStore coverStore;
+
+    @Autowired
+    private LocalBlobStorage localStorage;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private UploadSnapshot uploads;
+
+    @BeforeEach
+    void rememberUploads() throws IOException {
+        uploads = UploadSnapshot.of(localStorage.root());
+    }
+
+    @AfterEach
+    void removeUploads() throws IOException {
+        uploads.restore();
+    }
+
+    @Test
+    void deletesOnlyOldUnreferencedFiles() throws IOException {
+        String referencedKey = randomKey();
+        Path referenced = write(path(referencedKey), 10, TWO_DAYS_AGO);
+        createBook(referencedKey);
+
+        Path orphan = write(path(randomKey()), 100, TWO_DAYS_AGO);
+        Path orphanDerivative = write(
+            localStorage.resolve(coverStore.derivativeName(randomKey(), CoverSize.THUMB)), 20, TWO_DAYS_AGO);
+        Path legacyOrphan = write(path(UUID.randomUUID() + "_old.jpg"), 30, TWO_DAYS_AGO);
+        Path staleTemp = write(path(referencedKey).resolveSibling("cover123.tmp"), 5, TWO_DAYS_AGO);
+        Path recentOrphan = write(path(randomKey()), 40, Instant.now());
+        double reclaimedBefore = meterRegistry.get("covers.reclaimed.bytes").counter().count();
+
+        CoverReclaimer.Result result = coverReclaimer.reclaim(Instant.now().minus(Duration.ofDays(1)));
+
+        assertThat(referenced).exists();
+        assertThat(recentOrphan).exists();
+        assertThat(orphan).doesNotExist();
+        assertThat(orphanDerivative).doesNotExist();
+        assertThat(legacyOrphan).doesNotExist();
+        assertThat(staleTemp).doesNotExist();
+        assertThat(result.getFiles()).isEqualTo(4);
+        assertThat(result.getBytes()).isEqualTo(155);
+        assertThat(meterRegistry.get("covers.reclaimed.bytes").counter().count() - reclaimedBefore)
+            .isEqualTo(155);
+    }
+
+    @Test
+    void walksMoreFilesThanOneBatch() throws IOException {
+        for (int i = 0; i < 1200; i++) {
+            write(path(randomKey()), 1, TWO_DAYS_AGO);
+        }
+
+        CoverReclaimer.Result result = coverReclaimer.reclaim(Instant.now().minus(Duration.ofDays(1)));
+
+        assertThat(result.getFiles()).isGreaterThanOrEqualTo(1200);
+        assertThat(uploads.added()).isEmpty();
+    }
+
+    private void createBook(String key) {
+        User user = saveUser(userRepository, "reclaim");
+
+        Book book = new Book();
+        book.setTitle("Referenced");
+        book.setAuthor("Author");
+        book.setUser(user);
+        book.setCoverImagePath(key);
+        bookRepository.save(book);
+    }
+
+    private static String randomKey() {
+        byte[] hash = new byte[32];
+        ThreadLocalRandom.current().nextBytes(hash);
+        return HexFormat.of().formatHex(hash) + ".jpg";
+    }
+
+    private static Path write(Path file, int size, Instant modified) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.write(file, new byte[size]);
+        Files.setLastModifiedTime(file, FileTime.from(modified));
+        return file;
+    }
+
+    private Path path(String key) {
+        return localStorage.resolve(coverStore.blobName(key));
+    }
+}
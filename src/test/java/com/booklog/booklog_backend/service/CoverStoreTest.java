@@ -0,0 +1,164 @@
+package com.booklog.booklog_backend.service;
+
+import com.booklog.booklog_backend.dto.BookResponseDto;
+import com.booklog.booklog_backend.entity.Book;
+import com.booklog.booklog_backend.entity.User;
+import com.booklog.booklog_backend.repository.BookRepository;
+import com.booklog.booklog_backend.repository.UserRepository;
+import com.booklog.booklog_backend.storage.LocalBlobStorage;
+import com.booklog.booklog_backend.support.UploadSnapshot;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static com.booklog.booklog_backend.support.TestFixtures.book;
+import static com.booklog.booklog_backend.support.TestFixtures.saveUser;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CoverStoreTest {
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private CoverStore coverStore;
+
+    @Autowired
+    private LocalBlobStorage localStorage;
+
+    @Autowired
+    private ImageDerivativeService imageDerivativeService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CoverReclaimer coverReclaimer;
+
+    private UploadSnapshot uploads;
+
+    @BeforeEach
+    void rememberUploads() throws IOException {
+        uploads = UploadSnapshot.of(localStorage.root());
+    }
+
+    @AfterEach
+    void removeUploads() throws IOException {
+        uploads.restore();
+    }
+
+    @Test
+    void identicalUploadsShareOneFileUntilTheReclaimerRunsAfterTheLastReference() throws IOException {
+        User first = saveUser(userRepository, "cover");
+        User second = saveUser(userRepository, "cover");
+        byte[] content = ("cover-" + UUID.randomUUID()).getBytes(StandardCharsets.UTF_8);
+
+        BookResponseDto a = bookService.createBook(book("Cover Book"), first.getId(), cover("a.png", content));
+        BookResponseDto b = bookService.createBook(book("Cover Book"), second.getId(), cover("b.png", content));
+
+        String key = bookRepository.findById(a.getId()).orElseThrow().getCoverImagePath();
+        assertThat(CoverStore.isContentKey(key)).isTrue();
+        assertThat(bookRepository.findById(b.getId()).orElseThrow().getCoverImagePath()).isEqualTo(key);
+        assertThat(path(key)).hasBinaryContent(content);
+        assertThat(path(key).getParent().getParent().getParent()).isEqualTo(localStorage.root());
+        assertThat(uploads.added()).hasSize(1);
+
+        bookService.deleteBook(a.getId(), first.getId());
+        assertThat(path(key)).exists();
+
+        bookService.deleteBook(b.getId(), second.getId());
+        // 요청 중에는 지우지 않는다
+        assertThat(path(key)).exists();
+
+        coverReclaimer.reclaim(Instant.now().plusSeconds(60));
+        assertThat(path(key)).doesNotExist();
+    }
+
+    @Test
+    void reusingAnOldFileRestartsTheGracePeriod() throws IOException {
+        byte[] content = ("reused-" + UUID.randomUUID()).getBytes(StandardCharsets.UTF_8);
+        String key = coverStore.store(cover("a.png", content));
+        coverStore.unpin(key);
+        Files.setLastModifiedTime(path(key), FileTime.from(Instant.now().minus(Duration.ofDays(2))));
+        String etag = coverStore.findImage(key, null).orElseThrow().etag();
+
+        // 정리 직전에 같은 내용이 다시 올라오고, 책 저장이 끝나기 전에 정리 작업이 돈다
+        assertThat(coverStore.store(cover("b.png", content))).isEqualTo(key);
+        coverStore.unpin(key);
+        coverReclaimer.reclaim(Instant.now().minus(Duration.ofDays(1)));
+
+        assertThat(path(key)).hasBinaryContent(content);
+        // 수정 시각이 바뀌어도 내용은 같으므로 ETag 는 그대로다
+        assertThat(coverStore.findImage(key, null).orElseThrow().etag()).isEqualTo(etag);
+    }
+
+    @Test
+    void replacedCoverIsReclaimed() throws IOException {
+        User user = saveUser(userRepository, "cover");
+        BookResponseDto created = bookService.createBook(book("Cover Book"), user.getId(),
+            cover("old.jpg", ("old-" + UUID.randomUUID()).getBytes(StandardCharsets.UTF_8)));
+        String oldKey = bookRepository.findById(created.getId()).orElseThrow().getCoverImagePath();
+
+        bookService.updateBook(created.getId(), book("Cover Book"), user.getId(),
+            cover("new.jpg", ("new-" + UUID.randomUUID()).getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(uploads.added()).hasSize(2);
+        coverReclaimer.reclaim(Instant.now().plusSeconds(60));
+        assertThat(path(oldKey)).doesNotExist();
+        assertThat(uploads.added()).hasSize(1);
+    }
+
+    @Test
+    void migrationMovesLegacyFilesIntoTheStore() throws IOException {
+        User user = saveUser(userRepository, "cover");
+        byte[] content = ("legacy-" + UUID.randomUUID()).getBytes(StandardCharsets.UTF_8);
+        String legacyKey = UUID.randomUUID() + "_cover.png";
+        Files.createDirectories(localStorage.root());
+        Files.write(path(legacyKey), content);
+        Book book = new Book();
+        book.setTitle("Legacy");
+        book.setAuthor("Author");
+        book.setUser(user);
+        book.setCoverImagePath(legacyKey);
+        Long bookId = bookRepository.save(book).getId();
+
+        CoverMigration.Result result =
+            new CoverMigration(bookRepository, coverStore, localStorage, imageDerivativeService).migrate();
+
+        String key = bookRepository.findById(bookId).orElseThrow().getCoverImagePath();
+        assertThat(result.getMigrated()).isGreaterThanOrEqualTo(1);
+        assertThat(key).endsWith(".png");
+        assertThat(CoverStore.isContentKey(key)).isTrue();
+        assertThat(path(key)).hasBinaryContent(content);
+
+        coverReclaimer.reclaim(Instant.now().plusSeconds(60));
+        assertThat(path(legacyKey)).doesNotExist();
+        assertThat(path(key)).exists();
+    }
+
+    private static MockMultipartFile cover(String name, byte[] content) {
+        return new MockMultipartFile("coverImage", name, "image/png", content);
+    }
+
+    private Path path(String key) {
+        return localStorage.resolve(coverStore.blobName(key));
+    }
+}
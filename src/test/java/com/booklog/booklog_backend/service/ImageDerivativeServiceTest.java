@@ -0,0 +1,126 @@
+package com.booklog.booklog_backend.service;
+
+import com.booklog.booklog_backend.config.AsyncConfig;
+import com.booklog.booklog_backend.storage.LocalBlobStorage;
+import com.booklog.booklog_backend.support.UploadSnapshot;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ImageDerivativeServiceTest {
+
+    @Autowired
+    private ImageDerivativeService imageDerivativeService;
+
+    @Autowired
+    private CoverStore coverStore;
+
+    @Autowired
+    private LocalBlobStorage localStorage;
+
+    private UploadSnapshot uploads;
+
+    @BeforeEach
+    void rememberUploads() throws IOException {
+        uploads = UploadSnapshot.of(localStorage.root());
+    }
+
+    @AfterEach
+    void removeUploads() throws IOException {
+        uploads.restore();
+    }
+
+    @Test
+    void generatesEverySizeFromOneDecode() throws Exception {
+        String key = storeCover(1000, 1500);
+        String small = storeCover(100, 80);
+
+        imageDerivativeService.generate(key);
+        imageDerivativeService.generate(small);
+
+        for (CoverSize size : CoverSize.values()) {
+            BufferedImage derivative = readDerivative(key, size);
+            assertThat(derivative.getWidth()).isEqualTo(size.getWidth());
+            assertThat(derivative.getHeight()).isEqualTo(size.getWidth() * 3 / 2);
+            // 원본보다 크게 늘리지 않는다
+            assertThat(readDerivative(small, size).getWidth()).isEqualTo(100);
+        }
+        assertThat(coverStore.hasDerivatives(key)).isTrue();
+    }
+
+    @Test
+    void fullQueueSkipsTheWorkInsteadOfBlockingTheCaller() throws Exception {
+        ThreadPoolTaskExecutor executor = new AsyncConfig().imageProcessingExecutor(1, 1);
+        executor.initialize();
+        ImageDerivativeService service = new ImageDerivativeService(executor, coverStore, localStorage);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            String queued = storeCover(300, 400);
+            String rejected = storeCover(300, 400);
+
+            // 하나뿐인 작업 스레드를 붙잡고 대기열 한 칸을 채운다
+            executor.execute(() -> awaitQuietly(release));
+            service.generateAsync(queued);
+            service.generateAsync(rejected);
+
+            release.countDown();
+            executor.shutdown();
+            assertThat(executor.getThreadPoolExecutor().awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+            assertThat(coverStore.hasDerivatives(queued)).isTrue();
+            assertThat(coverStore.hasDerivatives(rejected)).isFalse();
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    private String storeCover(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = image.createGraphics();
+        try {
+            // 내용 주소가 겹치지 않도록 색을 매번 다르게 한다
+            graphics.setColor(new Color(ThreadLocalRandom.current().nextInt(0x1000000)));
+            graphics.fillRect(0, 0, width, height);
+        } finally {
+            graphics.dispose();
+        }
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", png);
+        return coverStore.store(new MockMultipartFile("coverImage", "cover.png", "image/png", png.toByteArray()));
+    }
+
+    private BufferedImage readDerivative(String key, CoverSize size) throws IOException {
+        try (InputStream in = localStorage.open(coverStore.derivativeName(key, size))) {
+            return ImageIO.read(in);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.booklog.booklog_backend.service;
+
+import com.booklog.booklog_backend.dto.BookResponseDto;
+import com.booklog.booklog_backend.entity.Book;
+import com.booklog.booklog_backend.entity.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 응답을 만드는 경로: 엔티티 -> BookResponseDto 변환(BookResponseMapper, BeanUtils.copyProperties),
+ * 표지 Content-Type 결정, Page<BookResponseDto> 의 JSON 직렬화. 변환은 setter 를 직접 부르는 경우와 비교해 리플렉션 비용을 본다.
+ * 패키지 전용 변환기를 부르므로 서비스 패키지에 둔다. 할당량은 -prof gc 로 본다 (jmh.profilers 기본값).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseMappingBenchmark {
+    private static final String[] FILENAMES = {
+        "3f2a9c.jpg", "3f2a9c.JPEG", "3f2a9c.png", "3f2a9c.gif", "3f2a9c.webp", "3f2a9c.bmp"
+    };
+
+    private Book book;
+    private int next;
+
+    @State(Scope.Thread)
+    public static class BookPage {
+        @Param({"20", "100"})
+        private int pageSize;
+
+        private ObjectMapper objectMapper;
+        private Page<BookResponseDto> page;
+
+        @Setup
+        public void setUp() {
+            // 스프링 부트 기본 설정과 같이 날짜를 ISO 문자열로 쓴다
+            objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+            User user = user();
+            List<BookResponseDto> content = new ArrayList<>(pageSize);
+            for (int i = 0; i < pageSize; i++) {
+                content.add(BookResponseMapper.toResponseDto(book(i + 1L, user)));
+            }
+            page = new PageImpl<>(content, PageRequest.of(0, pageSize, Sort.by(Sort.Direction.DESC, "createdAt")), 1_000);
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        book = book(1L, user());
+    }
+
+    @Benchmark
+    public BookResponseDto convertToResponseDto() {
+        return BookResponseMapper.toResponseDto(book);
+    }
+
+    // 비교 기준: 같은 필드를 setter 로 직접 복사
+    @Benchmark
+    public BookResponseDto convertToResponseDtoBySetters() {
+        BookResponseDto dto = new BookResponseDto();
+        dto.setId(book.getId());
+        dto.setTitle(book.getTitle());
+        dto.setAuthor(book.getAuthor());
+        dto.setPublisher(book.getPublisher());
+        dto.setReadDate(book.getReadDate());
+        dto.setDescription(book.getDescription());
+        dto.setReview(book.getReview());
+        dto.setBeforeThoughts(book.getBeforeThoughts());
+        dto.setAfterThoughts(book.getAfterThoughts());
+        dto.setIsPublic(book.getIsPublic());
+        dto.setCreatedAt(book.getCreatedAt());
+        dto.setVersion(book.getVersion());
+        dto.setUserNickname(book.getUser().getNickname());
+        if (book.getCoverImagePath() != null) {
+            dto.setCoverImageUrl("/api/images/" + book.getCoverImagePath());
+        }
+        return dto;
+    }
+
+    @Benchmark
+    public String determineContentType() {
+        next = (next + 1) % FILENAMES.length;
+        return CoverImage.contentType(FILENAMES[next]);
+    }
+
+    @Benchmark
+    public byte[] serializeBookPage(BookPage bookPage) throws Exception {
+        return bookPage.objectMapper.writeValueAsBytes(bookPage.page);
+    }
+
+    private static User user() {
+        User user = new User();
+        user.setId(1L);
+        user.setEmail("reader@booklog.test");
+        user.setNickname("reader");
+        return user;
+    }
+
+    private static Book book(Long id, User user) {
+        Book book = new Book();
+        book.setId(id);
+        book.setTitle("채식주의자 " + id);
+        book.setAuthor("한강");
+        book.setPublisher("창비");
+        book.setReadDate(LocalDate.of(2024, 10, 10));
+        book.setCoverImagePath("3f/2a/3f2a9c" + id + ".jpg");
+        book.setDescription("소설 소개 ".repeat(20));
+        book.setReview("독후감 본문 ".repeat(200));
+        book.setBeforeThoughts("읽기 전 ".repeat(20));
+        book.setAfterThoughts("읽은 후 ".repeat(40));
+        book.setIsPublic(true);
+        book.setCreatedAt(LocalDateTime.of(2024, 10, 11, 9, 30));
+        book.setVersion(3L);
+        book.setUser(user);
+        return book;
+    }
+}
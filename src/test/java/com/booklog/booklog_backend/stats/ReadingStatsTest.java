@@ -0,0 +1,125 @@
+package com.booklog.booklog_backend.stats;
+
+import com.booklog.booklog_backend.dto.BookResponseDto;
+import com.booklog.booklog_backend.dto.ReadingStatsDto;
+import com.booklog.booklog_backend.dto.ReadingStatsDto.NameCount;
+import com.booklog.booklog_backend.dto.ReadingStatsDto.PeriodCount;
+import com.booklog.booklog_backend.entity.User;
+import com.booklog.booklog_backend.repository.UserRepository;
+import com.booklog.booklog_backend.security.JwtUtils;
+import com.booklog.booklog_backend.service.BookService;
+import com.booklog.booklog_backend.support.StatementBudget;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+
+import static com.booklog.booklog_backend.support.TestFixtures.book;
+import static com.booklog.booklog_backend.support.TestFixtures.saveUser;
+import static com.booklog.booklog_backend.support.TestFixtures.token;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "stats.top-limit=2")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ReadingStatsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private ReadingStats readingStats;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = saveUser(userRepository, "stats");
+    }
+
+    @Test
+    void followsCreateUpdateAndDelete() {
+        BookResponseDto dune = bookService.createBook(
+            book("Dune", "Frank Herbert", "Ace", LocalDate.of(2024, 3, 1), true), user.getId(), null);
+        bookService.createBook(
+            book("Children of Dune", "Frank Herbert", "Ace", LocalDate.of(2024, 3, 20), false), user.getId(), null);
+        BookResponseDto solaris = bookService.createBook(
+            book("Solaris", "Stanisław Lem", null, LocalDate.of(2023, 11, 5), true), user.getId(), null);
+        bookService.createBook(book("Unread", "Someone", "  ", null, true), user.getId(), null);
+
+        ReadingStatsDto stats = bookService.getReadingStats(user.getId());
+        assertThat(stats.getTotalBooks()).isEqualTo(4);
+        assertThat(stats.getPublicBooks()).isEqualTo(3);
+        assertThat(stats.getYears()).containsExactly(new PeriodCount("2023", 1), new PeriodCount("2024", 2));
+        assertThat(stats.getMonths()).containsExactly(new PeriodCount("2023-11", 1), new PeriodCount("2024-03", 2));
+        // 상위 2명만, 같은 권수면 이름순
+        assertThat(stats.getTopAuthors()).containsExactly(
+            new NameCount("Frank Herbert", 2), new NameCount("Someone", 1));
+        assertThat(stats.getTopPublishers()).containsExactly(new NameCount("Ace", 2));
+
+        // 읽은 날짜, 저자, 공개 여부를 바꾸면 이전 값이 빠진다
+        bookService.updateBook(dune.getId(),
+            book("Dune", "F. Herbert", "Chilton", LocalDate.of(2025, 1, 2), false), user.getId(), null);
+        bookService.deleteBook(solaris.getId(), user.getId());
+
+        stats = bookService.getReadingStats(user.getId());
+        assertThat(stats.getTotalBooks()).isEqualTo(3);
+        assertThat(stats.getPublicBooks()).isEqualTo(1);
+        assertThat(stats.getYears()).containsExactly(new PeriodCount("2024", 1), new PeriodCount("2025", 1));
+        assertThat(stats.getMonths()).containsExactly(new PeriodCount("2024-03", 1), new PeriodCount("2025-01", 1));
+        assertThat(stats.getTopAuthors()).containsExactly(
+            new NameCount("F. Herbert", 1), new NameCount("Frank Herbert", 1));
+        assertThat(stats.getTopPublishers()).containsExactly(
+            new NameCount("Ace", 1), new NameCount("Chilton", 1));
+    }
+
+    @Test
+    void rebuildFromTheDatabaseMatchesIncrementalUpdates() {
+        for (int i = 0; i < 12; i++) {
+            BookResponseDto created = bookService.createBook(
+                book("Book " + i, "Author " + (i % 3), "Publisher " + (i % 2), LocalDate.of(2020 + i % 4, i % 12 + 1, 1), i % 2 == 0),
+                user.getId(), null);
+            if (i % 5 == 0) {
+                bookService.deleteBook(created.getId(), user.getId());
+            }
+        }
+        ReadingStatsDto incremental = bookService.getReadingStats(user.getId());
+
+        readingStats.rebuild();
+
+        assertThat(bookService.getReadingStats(user.getId())).isEqualTo(incremental);
+    }
+
+    @Test
+    void endpointServesTheCurrentUsersStatsWithoutQueries() throws Exception {
+        bookService.createBook(book("Dune", "Frank Herbert", "Ace", LocalDate.of(2024, 3, 1), true), user.getId(), null);
+        User other = saveUser(userRepository, "stats");
+        bookService.createBook(book("Other", "Other Author", null, null, true), other.getId(), null);
+        String token = token(jwtUtils, user);
+
+        StatementBudget.within(0, () -> mockMvc.perform(get("/api/books/stats")
+                .header("Authorization", "Bearer " + token))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalBooks").value(1))
+            .andExpect(jsonPath("$.months[0].period").value("2024-03"))
+            .andExpect(jsonPath("$.topAuthors[0].name").value("Frank Herbert"))
+            .andExpect(jsonPath("$.topAuthors.length()").value(1)));
+    }
+}
@@ -0,0 +1,134 @@
+package com.booklog.booklog_backend.storage;
+
+import com.booklog.booklog_backend.config.StorageConfig;
+import com.booklog.booklog_backend.support.FakeS3Server;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.s3.S3Client;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class S3BlobStorageTest {
+    private FakeS3Server server;
+    private S3Client s3;
+    private S3BlobStorage storage;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new FakeS3Server("covers", 2);
+        s3 = new StorageConfig().s3Client(server.endpoint().toString(), "us-east-1", "test", "test", true);
+        storage = new S3BlobStorage(s3, "covers", "prefix");
+    }
+
+    @AfterEach
+    void tearDown() {
+        s3.close();
+        server.close();
+    }
+
+    @Test
+    void putStatOpenAndDelete() throws IOException {
+        byte[] content = "hello cover".getBytes(StandardCharsets.UTF_8);
+        storage.put("ab/cd/key.jpg", new ByteArrayInputStream(content), content.length);
+
+        assertThat(server.contains("prefix/ab/cd/key.jpg")).isTrue();
+        BlobInfo info = storage.stat("ab/cd/key.jpg").orElseThrow();
+        assertThat(info.size()).isEqualTo(content.length);
+        assertThat(info.lastModified()).isBefore(Instant.now().plusSeconds(1));
+
+        try (InputStream in = storage.open("ab/cd/key.jpg")) {
+            assertThat(in.readAllBytes()).isEqualTo(content);
+        }
+        try (InputStream in = storage.open("ab/cd/key.jpg", 6, 5)) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("cover");
+        }
+
+        assertThat(storage.delete("ab/cd/key.jpg")).isEqualTo(content.length);
+        assertThat(storage.stat("ab/cd/key.jpg")).isEmpty();
+        assertThat(storage.delete("ab/cd/key.jpg")).isZero();
+    }
+
+    @Test
+    void streamsLargeUploadsWithoutKnowingTheWholeContent() throws Exception {
+        long length = 16L * 1024 * 1024;
+        MessageDigest sent = MessageDigest.getInstance("SHA-256");
+        storage.put("large.bin", new GeneratedInputStream(length, sent), length);
+
+        MessageDigest received = MessageDigest.getInstance("SHA-256");
+        received.update(server.content("prefix/large.bin"));
+        assertThat(received.digest()).isEqualTo(sent.digest());
+        assertThat(storage.stat("large.bin").orElseThrow().size()).isEqualTo(length);
+    }
+
+    @Test
+    void listsAcrossPagesUnderThePrefix() throws IOException {
+        Instant old = Instant.now().minus(2, ChronoUnit.DAYS);
+        for (int i = 0; i < 5; i++) {
+            server.putObject("prefix/ab/cd/key" + i + ".jpg", new byte[i + 1], old);
+        }
+        server.putObject("other/outside.jpg", new byte[1], old);
+
+        List<BlobInfo> listed;
+        try (Stream<BlobInfo> blobs = storage.list("")) {
+            listed = blobs.toList();
+        }
+
+        assertThat(listed).extracting(BlobInfo::name)
+            .containsExactly("ab/cd/key0.jpg", "ab/cd/key1.jpg", "ab/cd/key2.jpg", "ab/cd/key3.jpg", "ab/cd/key4.jpg");
+        assertThat(listed.get(4).size()).isEqualTo(5);
+        assertThat(listed.get(0).lastModified()).isEqualTo(old.truncatedTo(ChronoUnit.SECONDS));
+    }
+
+    @Test
+    void missingObjectIsEmpty() throws IOException {
+        assertThat(storage.stat("missing.jpg")).isEmpty();
+    }
+
+    // 배열 없이 바이트를 만들어 내며 보낸 내용의 해시를 계산한다
+    private static final class GeneratedInputStream extends InputStream {
+        private final long length;
+        private final MessageDigest digest;
+        private long position;
+
+        GeneratedInputStream(long length, MessageDigest digest) {
+            this.length = length;
+            this.digest = digest;
+        }
+
+        @Override
+        public int read() {
+            if (position >= length) {
+                return -1;
+            }
+            int value = (int) ((position * 31) & 0xff);
+            position++;
+            digest.update((byte) value);
+            return value;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (position >= length) {
+                return -1;
+            }
+            int n = (int) Math.min(len, length - position);
+            for (int i = 0; i < n; i++) {
+                b[off + i] = (byte) ((position + i) * 31);
+            }
+            digest.update(b, off, n);
+            position += n;
+            return n;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.booklog.booklog_backend.storage;
+
+import com.booklog.booklog_backend.dto.BookResponseDto;
+import com.booklog.booklog_backend.entity.Book;
+import com.booklog.booklog_backend.entity.User;
+import com.booklog.booklog_backend.repository.BookRepository;
+import com.booklog.booklog_backend.repository.UserRepository;
+import com.booklog.booklog_backend.service.BookService;
+import com.booklog.booklog_backend.service.CoverStore;
+import com.booklog.booklog_backend.service.HotCoverCache;
+import com.booklog.booklog_backend.support.FakeS3Server;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import software.amazon.awssdk.services.s3.S3Client;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static com.booklog.booklog_backend.support.TestFixtures.book;
+import static com.booklog.booklog_backend.support.TestFixtures.saveUser;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * {@code file.storage.type=s3} 로 띄웠을 때 업로드, 이미지 응답(Range 포함), 삭제가 버킷을 통해 이루어지는지,
+ * 같은 버킷을 쓰는 다른 노드의 정리 작업이 재사용 중인 표지를 지우지 않는지 확인한다.
+ * 캐시를 끄기 위해 캐시 대상 크기를 1 바이트로 둔다.
+ */
+@SpringBootTest(properties = {
+    "file.storage.type=s3",
+    "file.storage.s3.bucket=covers",
+    "file.storage.s3.prefix=covers/",
+    "file.storage.s3.region=us-east-1",
+    "file.storage.s3.path-style=true",
+    "file.storage.s3.access-key=test",
+    "file.storage.s3.secret-key=test",
+    "file.cache.max-entry-size=1B",
+    "file.reclaim.enabled=false"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class S3StorageIntegrationTest {
+    private static final FakeS3Server S3 = start();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CoverStore coverStore;
+
+    @Autowired
+    private S3Client s3Client;
+
+    @Autowired
+    private HotCoverCache hotCoverCache;
+
+    @DynamicPropertySource
+    static void s3Endpoint(DynamicPropertyRegistry registry) {
+        registry.add("file.storage.s3.endpoint", () -> S3.endpoint().toString());
+    }
+
+    @AfterAll
+    static void stop() {
+        S3.close();
+    }
+
+    @Test
+    void coversAreStoredServedAndDeletedThroughTheBucket() throws Exception {
+        User user = saveUser(userRepository, "s3");
+        byte[] content = ("s3-cover-" + UUID.randomUUID()).getBytes(StandardCharsets.UTF_8);
+
+        BookResponseDto created = bookService.createBook(book("S3 Book"), user.getId(),
+            new MockMultipartFile("coverImage", "cover.png", "image/png", content));
+        String key = bookRepository.findById(created.getId()).orElseThrow().getCoverImagePath();
+        String objectKey = "covers/" + coverStore.blobName(key);
+        assertThat(S3.contains(objectKey)).isTrue();
+        assertThat(S3.content(objectKey)).isEqualTo(content);
+
+        mockMvc.perform(get("/api/images/" + key))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Type", "image/png"))
+            .andExpect(content().bytes(content));
+
+        mockMvc.perform(get("/api/images/" + key).header("Range", "bytes=3-7"))
+            .andExpect(status().isPartialContent())
+            .andExpect(content().bytes(Arrays.copyOfRange(content, 3, 8)));
+
+        bookService.deleteBook(created.getId(), user.getId());
+        // 요청 중에는 지우지 않고 정리 작업이 유예 기간 뒤 지운다
+        assertThat(S3.contains(objectKey)).isTrue();
+        assertThat(coverStore.reclaim(key, Instant.now().plusSeconds(60))).isEqualTo(content.length);
+        assertThat(S3.contains(objectKey)).isFalse();
+        mockMvc.perform(get("/api/images/" + key))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void reuseOnOneNodeIsNotDeletedByAnotherNode() throws IOException {
+        // 같은 버킷을 쓰는 두 노드. 고정(pin)과 락은 노드마다 따로이다
+        CoverStore nodeA = coverStore;
+        CoverStore nodeB = new CoverStore(new S3BlobStorage(s3Client, "covers", "covers/"),
+            bookRepository, hotCoverCache);
+        byte[] content = ("shared-cover-" + UUID.randomUUID()).getBytes(StandardCharsets.UTF_8);
+
+        // B 에서 저장했지만 책 저장이 실패해 참조 없이 오래 남은 표지
+        String key = nodeB.store(new MockMultipartFile("coverImage", "b.png", "image/png", content));
+        nodeB.unpin(key);
+        String objectKey = "covers/" + nodeB.blobName(key);
+        S3.putObject(objectKey, content, Instant.now().minus(Duration.ofDays(2)));
+
+        // A 가 같은 내용을 재사용하고 책을 아직 커밋하지 않은 사이 B 의 정리 작업이 돈다
+        assertThat(nodeA.store(new MockMultipartFile("coverImage", "a.png", "image/png", content))).isEqualTo(key);
+        Instant cutoff = Instant.now().minus(Duration.ofDays(1));
+        assertThat(S3.lastModified(objectKey)).isAfter(cutoff);
+        assertThat(nodeB.reclaim(key, cutoff)).isZero();
+        assertThat(S3.contains(objectKey)).isTrue();
+
+        // A 의 책이 커밋된 뒤에는 참조가 있으므로 유예 기간과 상관없이 남는다
+        Book book = new Book();
+        book.setTitle("Shared");
+        book.setAuthor("Author");
+        book.setUser(saveUser(userRepository, "s3"));
+        book.setCoverImagePath(key);
+        book = bookRepository.save(book);
+        nodeA.unpin(key);
+        assertThat(nodeB.reclaim(key, Instant.now().plusSeconds(60))).isZero();
+        assertThat(S3.content(objectKey)).isEqualTo(content);
+
+        bookRepository.delete(book);
+        assertThat(nodeB.reclaim(key, Instant.now().plusSeconds(60))).isEqualTo(content.length);
+        assertThat(S3.contains(objectKey)).isFalse();
+    }
+
+    private static FakeS3Server start() {
+        try {
+            return new FakeS3Server("covers", 100);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
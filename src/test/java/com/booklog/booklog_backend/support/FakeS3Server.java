@@ -0,0 +1,289 @@
+package com.booklog.booklog_backend.support;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 테스트용 S3 대역. path-style 요청의 PUT/GET(Range)/HEAD/DELETE, 같은 버킷 안의 CopyObject 와
+ * ListObjectsV2 만 흉내 낸다.
+ * 목록은 작은 페이지로 잘라 반환해 페이지 넘김도 확인할 수 있게 한다.
+ */
+public final class FakeS3Server implements AutoCloseable {
+    private static final Pattern RANGE = Pattern.compile("bytes=(\\d+)-(\\d*)");
+
+    private record StoredObject(byte[] content, Instant lastModified) {
+    }
+
+    private final HttpServer server;
+    private final String bucket;
+    private final int pageSize;
+    private final NavigableMap<String, StoredObject> objects = new ConcurrentSkipListMap<>();
+    private final AtomicLong getRequests = new AtomicLong();
+
+    public FakeS3Server(String bucket, int pageSize) throws IOException {
+        this.bucket = bucket;
+        this.pageSize = pageSize;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        this.server.createContext("/", this::handle);
+        this.server.start();
+    }
+
+    public URI endpoint() {
+        return URI.create("http://127.0.0.1:" + server.getAddress().getPort());
+    }
+
+    public boolean contains(String key) {
+        return objects.containsKey(key);
+    }
+
+    public byte[] content(String key) {
+        return objects.get(key).content();
+    }
+
+    public Instant lastModified(String key) {
+        return objects.get(key).lastModified();
+    }
+
+    public void putObject(String key, byte[] content, Instant lastModified) {
+        objects.put(key, new StoredObject(content, lastModified.truncatedTo(ChronoUnit.SECONDS)));
+    }
+
+    public int size() {
+        return objects.size();
+    }
+
+    public long getRequests() {
+        return getRequests.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = exchange.getRequestURI().getRawPath();
+            String prefix = "/" + bucket;
+            if (!path.startsWith(prefix)) {
+                error(exchange, 404, "NoSuchBucket");
+                return;
+            }
+            String key = URLDecoder.decode(path.substring(prefix.length()).replaceFirst("^/", ""), StandardCharsets.UTF_8);
+            String method = exchange.getRequestMethod();
+            if (key.isEmpty() && method.equals("GET")) {
+                list(exchange);
+                return;
+            }
+            switch (method) {
+                case "PUT" -> {
+                    String copySource = exchange.getRequestHeaders().getFirst("x-amz-copy-source");
+                    if (copySource != null) {
+                        copy(exchange, copySource, key);
+                    } else {
+                        put(exchange, key);
+                    }
+                }
+                case "GET" -> get(exchange, key);
+                case "HEAD" -> head(exchange, key);
+                case "DELETE" -> {
+                    objects.remove(key);
+                    exchange.sendResponseHeaders(204, -1);
+                }
+                default -> error(exchange, 405, "MethodNotAllowed");
+            }
+        }
+    }
+
+    private void put(HttpExchange exchange, String key) throws IOException {
+        byte[] body = exchange.getRequestBody().readAllBytes();
+        String contentSha = exchange.getRequestHeaders().getFirst("x-amz-content-sha256");
+        if (contentSha != null && contentSha.startsWith("STREAMING-")) {
+            body = decodeAwsChunked(body);
+        }
+        putObject(key, body, Instant.now());
+        exchange.getResponseHeaders().set("ETag", "\"" + Integer.toHexString(Arrays.hashCode(body)) + "\"");
+        exchange.sendResponseHeaders(200, -1);
+    }
+
+    // 원본은 /<bucket>/<key> 또는 <bucket>/<key> 이며 수정 시각은 새로 매긴다
+    private void copy(HttpExchange exchange, String copySource, String key) throws IOException {
+        String source = URLDecoder.decode(copySource, StandardCharsets.UTF_8).replaceFirst("^/", "");
+        StoredObject object = source.startsWith(bucket + "/") ? objects.get(source.substring(bucket.length() + 1)) : null;
+        if (object == null) {
+            error(exchange, 404, "NoSuchKey");
+            return;
+        }
+        putObject(key, object.content(), Instant.now());
+        byte[] body = ("<?xml version=\"1.0\" encoding=\"UTF-8\"?><CopyObjectResult>"
+            + "<LastModified>" + objects.get(key).lastModified() + "</LastModified>"
+            + "<ETag>\"" + Integer.toHexString(Arrays.hashCode(object.content())) + "\"</ETag>"
+            + "</CopyObjectResult>").getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/xml");
+        exchange.sendResponseHeaders(200, body.length);
+        exchange.getResponseBody().write(body);
+    }
+
+    private void get(HttpExchange exchange, String key) throws IOException {
+        getRequests.incrementAndGet();
+        StoredObject object = objects.get(key);
+        if (object == null) {
+            error(exchange, 404, "NoSuchKey");
+            return;
+        }
+        byte[] content = object.content();
+        int start = 0;
+        int end = content.length - 1;
+        int status = 200;
+        String range = exchange.getRequestHeaders().getFirst("Range");
+        if (range != null) {
+            Matcher matcher = RANGE.matcher(range);
+            if (matcher.matches()) {
+                start = Integer.parseInt(matcher.group(1));
+                if (!matcher.group(2).isEmpty()) {
+                    end = Math.min(end, Integer.parseInt(matcher.group(2)));
+                }
+                status = 206;
+                exchange.getResponseHeaders().set("Content-Range", "bytes " + start + "-" + end + "/" + content.length);
+            }
+        }
+        headers(exchange, object);
+        int length = end - start + 1;
+        exchange.sendResponseHeaders(status, length == 0 ? -1 : length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(content, start, length);
+        }
+    }
+
+    private void head(HttpExchange exchange, String key) throws IOException {
+        StoredObject object = objects.get(key);
+        if (object == null) {
+            exchange.sendResponseHeaders(404, -1);
+            return;
+        }
+        headers(exchange, object);
+        exchange.getResponseHeaders().set("Content-Length", String.valueOf(object.content().length));
+        exchange.sendResponseHeaders(200, -1);
+    }
+
+    private void list(HttpExchange exchange) throws IOException {
+        Map<String, String> query = query(exchange.getRequestURI().getRawQuery());
+        String prefix = query.getOrDefault("prefix", "");
+        String after = query.get("continuation-token");
+
+        StringBuilder contents = new StringBuilder();
+        int count = 0;
+        String last = null;
+        boolean truncated = false;
+        NavigableMap<String, StoredObject> candidates = after == null ? objects : objects.tailMap(after, false);
+        for (Map.Entry<String, StoredObject> entry : candidates.entrySet()) {
+            if (!entry.getKey().startsWith(prefix)) {
+                continue;
+            }
+            if (count == pageSize) {
+                truncated = true;
+                break;
+            }
+            contents.append("<Contents><Key>").append(escape(entry.getKey())).append("</Key>")
+                .append("<LastModified>").append(entry.getValue().lastModified()).append("</LastModified>")
+                .append("<Size>").append(entry.getValue().content().length).append("</Size>")
+                .append("<StorageClass>STANDARD</StorageClass></Contents>");
+            last = entry.getKey();
+            count++;
+        }
+
+        String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+            + "<ListBucketResult xmlns=\"http://s3.amazonaws.com/doc/2006-03-01/\">"
+            + "<Name>" + bucket + "</Name><Prefix>" + escape(prefix) + "</Prefix>"
+            + "<KeyCount>" + count + "</KeyCount><MaxKeys>" + pageSize + "</MaxKeys>"
+            + "<IsTruncated>" + truncated + "</IsTruncated>"
+            + (truncated ? "<NextContinuationToken>" + escape(last) + "</NextContinuationToken>" : "")
+            + contents
+            + "</ListBucketResult>";
+        byte[] body = xml.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/xml");
+        exchange.sendResponseHeaders(200, body.length);
+        exchange.getResponseBody().write(body);
+    }
+
+    private static void headers(HttpExchange exchange, StoredObject object) {
+        exchange.getResponseHeaders().set("Last-Modified",
+            DateTimeFormatter.RFC_1123_DATE_TIME.format(object.lastModified().atOffset(ZoneOffset.UTC)));
+        exchange.getResponseHeaders().set("Accept-Ranges", "bytes");
+        exchange.getResponseHeaders().set("Content-Type", "application/octet-stream");
+    }
+
+    private static void error(HttpExchange exchange, int status, String code) throws IOException {
+        byte[] body = ("<?xml version=\"1.0\" encoding=\"UTF-8\"?><Error><Code>" + code
+            + "</Code><Message>" + code + "</Message></Error>").getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/xml");
+        exchange.sendResponseHeaders(status, body.length);
+        exchange.getResponseBody().write(body);
+    }
+
+    // STREAMING-* 서명 업로드 본문: <hex 길이>;chunk-signature=...\r\n<데이터>\r\n ... 0;...\r\n
+    private static byte[] decodeAwsChunked(byte[] body) throws IOException {
+        ByteArrayOutputStream decoded = new ByteArrayOutputStream(body.length);
+        int position = 0;
+        while (position < body.length) {
+            int lineEnd = indexOfCrlf(body, position);
+            String header = new String(body, position, lineEnd - position, StandardCharsets.US_ASCII);
+            int size = Integer.parseInt(header.split(";")[0].trim(), 16);
+            position = lineEnd + 2;
+            if (size == 0) {
+                break;
+            }
+            decoded.write(body, position, size);
+            position += size + 2;
+        }
+        return decoded.toByteArray();
+    }
+
+    private static int indexOfCrlf(byte[] body, int from) throws IOException {
+        for (int i = from; i < body.length - 1; i++) {
+            if (body[i] == '\r' && body[i + 1] == '\n') {
+                return i;
+            }
+        }
+        throw new IOException("Malformed aws-chunked body");
+    }
+
+    private static Map<String, String> query(String rawQuery) {
+        Map<String, String> values = new HashMap<>();
+        if (rawQuery == null) {
+            return values;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            String name = URLDecoder.decode(eq < 0 ? pair : pair.substring(0, eq), StandardCharsets.UTF_8);
+            String value = eq < 0 ? "" : URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+            values.put(name, value);
+        }
+        return values;
+    }
+
+    private static String escape(String value) {
+        return value.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+}
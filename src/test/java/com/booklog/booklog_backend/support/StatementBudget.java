@@ -0,0 +1,27 @@
+package com.booklog.booklog_backend.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 한 요청이 선언한 개수보다 많은 SQL 문을 실행하면 테스트를 실패시킨다.
+ */
+public final class StatementBudget {
+
+    @FunctionalInterface
+    public interface Action<T> {
+        T run() throws Exception;
+    }
+
+    private StatementBudget() {
+    }
+
+    public static <T> T within(int budget, Action<T> action) throws Exception {
+        StatementCounter.reset();
+        T result = action.run();
+        int executed = StatementCounter.count();
+        assertThat(executed)
+            .as("SQL statements executed (budget %d)", budget)
+            .isLessThanOrEqualTo(budget);
+        return result;
+    }
+}
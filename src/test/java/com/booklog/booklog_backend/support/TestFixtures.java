@@ -0,0 +1,81 @@
+package com.booklog.booklog_backend.support;
+
+import com.booklog.booklog_backend.dto.BookDto;
+import com.booklog.booklog_backend.entity.User;
+import com.booklog.booklog_backend.repository.UserRepository;
+import com.booklog.booklog_backend.security.JwtUtils;
+import com.booklog.booklog_backend.security.UserDetailsImpl;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 테스트와 벤치마크가 함께 쓰는 사용자, 책 입력, 토큰 생성.
+ * 컨텍스트를 공유하는 테스트끼리 섞이지 않도록 이메일은 매번 새로 만든다.
+ */
+public final class TestFixtures {
+    public static final String JWT_SECRET = "your-jwt-secret-key-here-make-it-very-long-and-secure-for-production";
+
+    private TestFixtures() {
+    }
+
+    // 저장하지 않은 사용자 - 닉네임을 이메일 앞부분으로도 쓴다
+    public static User newUser(String nickname) {
+        User user = new User();
+        user.setEmail(nickname + "-" + UUID.randomUUID() + "@booklog.test");
+        user.setPassword("password");
+        user.setNickname(nickname);
+        return user;
+    }
+
+    public static User saveUser(UserRepository userRepository, String nickname) {
+        return userRepository.save(newUser(nickname));
+    }
+
+    // uid 클레임을 담은, 로그인 응답과 같은 토큰
+    public static String token(JwtUtils jwtUtils, User user) {
+        return jwtUtils.generateJwtToken(
+            new UsernamePasswordAuthenticationToken(UserDetailsImpl.build(user), null, List.of()));
+    }
+
+    // 스프링 컨텍스트 없이 application.yml 과 같은 비밀 키로 만든다
+    public static JwtUtils jwtUtils(int expirationMs, long verifiedCacheSize) {
+        JwtUtils utils = new JwtUtils();
+        ReflectionTestUtils.setField(utils, "jwtSecret", JWT_SECRET);
+        ReflectionTestUtils.setField(utils, "jwtExpirationMs", expirationMs);
+        ReflectionTestUtils.setField(utils, "verifiedCacheSize", verifiedCacheSize);
+        ReflectionTestUtils.invokeMethod(utils, "init");
+        return utils;
+    }
+
+    public static BookDto book(String title) {
+        return book(title, "Author");
+    }
+
+    public static BookDto book(String title, boolean isPublic) {
+        return book(title, "Author", isPublic);
+    }
+
+    public static BookDto book(String title, String author) {
+        BookDto dto = new BookDto();
+        dto.setTitle(title);
+        dto.setAuthor(author);
+        return dto;
+    }
+
+    public static BookDto book(String title, String author, boolean isPublic) {
+        BookDto dto = book(title, author);
+        dto.setIsPublic(isPublic);
+        return dto;
+    }
+
+    public static BookDto book(String title, String author, String publisher, LocalDate readDate, boolean isPublic) {
+        BookDto dto = book(title, author, isPublic);
+        dto.setPublisher(publisher);
+        dto.setReadDate(readDate);
+        return dto;
+    }
+}
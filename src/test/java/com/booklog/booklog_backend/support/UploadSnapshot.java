@@ -0,0 +1,65 @@
+package com.booklog.booklog_backend.support;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 테스트 전 업로드 디렉터리의 파일 목록을 기억해 두었다가, 테스트가 만든 파일과 빈 디렉터리를 지운다.
+ * 파생 이미지는 비동기로 만들어지므로 원본 파일만 센다.
+ */
+public final class UploadSnapshot {
+    private final Path base;
+    private final Set<Path> existing;
+
+    private UploadSnapshot(Path base) throws IOException {
+        this.base = base;
+        this.existing = originals();
+    }
+
+    public static UploadSnapshot of(Path base) throws IOException {
+        return new UploadSnapshot(base);
+    }
+
+    public Set<Path> originals() throws IOException {
+        if (!Files.exists(base)) {
+            return new HashSet<>();
+        }
+        Path derivatives = base.resolve("derivatives");
+        try (Stream<Path> files = Files.walk(base)) {
+            return files.filter(Files::isRegularFile)
+                .filter(file -> !file.startsWith(derivatives))
+                .collect(Collectors.toSet());
+        }
+    }
+
+    public Set<Path> added() throws IOException {
+        Set<Path> files = originals();
+        files.removeAll(existing);
+        return files;
+    }
+
+    public void restore() throws IOException {
+        for (Path file : added()) {
+            Files.deleteIfExists(file);
+        }
+        if (!Files.exists(base)) {
+            return;
+        }
+        // 저장소가 만든 빈 샤드 디렉터리를 정리한다
+        try (Stream<Path> paths = Files.walk(base)) {
+            for (Path dir : paths.filter(Files::isDirectory).sorted(Comparator.reverseOrder()).toList()) {
+                try (Stream<Path> children = Files.list(dir)) {
+                    if (!dir.equals(base) && children.findAny().isEmpty()) {
+                        Files.delete(dir);
+                    }
+                }
+            }
+        }
+    }
+}